@@ -0,0 +1,47 @@
+package com.example.rest.auth;
+
+import io.jsonwebtoken.Claims;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+  private JwtService jwtService;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    jwtService = new JwtService(
+        "benchmark-secret-key-at-least-32-bytes-long",
+        "current",
+        "previous:benchmark-previous-key-at-least-32-bytes",
+        3600000L,
+        86400000L
+    );
+    accessToken = jwtService.generateAccessToken("benchmark-user", 1L);
+  }
+
+  @Benchmark
+  public String generateAccessToken() {
+    return jwtService.generateAccessToken("benchmark-user", 1L);
+  }
+
+  @Benchmark
+  public Claims parseClaims() {
+    return jwtService.parseClaims(accessToken);
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExamAiGeneratorBenchmark {
+  @Param({"5", "10"})
+  private int count;
+
+  private ExamAiGenerator generator;
+  private List<ExamExample> examples;
+  private String response;
+
+  @Setup
+  public void setUp() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    generator = new ExamAiGenerator(null, null, objectMapper);
+
+    examples = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      Exam exam = new Exam();
+      exam.setId((long) i);
+      exam.setCategory("Java");
+      exam.setQuestionText("다음 코드의 출력 결과를 작성하시오.\npublic class Main {\n  public static void main(String[] args) {\n"
+          + "    int[] arr = {1, 2, 3, " + i + "};\n    System.out.println(arr[arr.length - 1]);\n  }\n}");
+      exam.setAnswerText(String.valueOf(i));
+      examples.add(ExamExample.from(exam));
+    }
+
+    List<GeneratedExamItem> items = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      items.add(new GeneratedExamItem("Java", "문제 " + i + "\nint x = " + i + ";", String.valueOf(i), "설명 " + i, null));
+    }
+    response = objectMapper.writeValueAsString(items);
+  }
+
+  @Benchmark
+  public OllamaPrompt buildPrompt() {
+    return generator.buildPrompt(examples, "Java", count);
+  }
+
+  @Benchmark
+  public OllamaPrompt buildCodingPrompt() {
+    return generator.buildCodingPrompt(examples, "Java", count);
+  }
+
+  @Benchmark
+  public OllamaPrompt buildTheoryPrompt() {
+    return generator.buildTheoryPrompt(examples, "Theory", count);
+  }
+
+  @Benchmark
+  public List<GeneratedExamItem> parseItems() {
+    return generator.parseItems(response);
+  }
+}
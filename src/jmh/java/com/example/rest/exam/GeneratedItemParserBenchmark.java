@@ -0,0 +1,79 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedItemParserBenchmark {
+  @Param({"5", "20", "50"})
+  private int itemCount;
+
+  private ObjectMapper objectMapper;
+  private GeneratedItemJsonParser parser;
+  private String payload;
+
+  @Setup
+  public void setUp() throws Exception {
+    objectMapper = new ObjectMapper();
+    parser = new GeneratedItemJsonParser(objectMapper);
+
+    List<GeneratedExamItem> items = new ArrayList<>();
+    for (int i = 0; i < itemCount; i++) {
+      items.add(new GeneratedExamItem(
+          "Java",
+          "다음 코드의 출력 결과는?\nint x = " + i + ";\nSystem.out.println(x++ + ++x);",
+          String.valueOf(i * 2 + 2),
+          "후위 증가는 값을 사용한 뒤 증가하고, 전위 증가는 증가한 뒤 값을 사용한다. 문제 번호 " + i,
+          ""
+      ));
+    }
+    payload = "다음은 요청하신 문제입니다.\n```json\n"
+        + objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(items)
+        + "\n```\n필요하면 더 만들어 드릴게요.";
+  }
+
+  @Benchmark
+  public List<GeneratedExamItem> treeToValue() throws Exception {
+    JsonNode root = objectMapper.readTree(extractJsonPayload(payload));
+    List<GeneratedExamItem> items = new ArrayList<>();
+    for (JsonNode node : root) {
+      if (node.isObject()) {
+        items.add(objectMapper.treeToValue(node, GeneratedExamItem.class));
+      }
+    }
+    return items;
+  }
+
+  @Benchmark
+  public List<GeneratedExamItem> streaming() {
+    return parser.parse(payload);
+  }
+
+  private static String extractJsonPayload(String text) {
+    int arrayStart = text.indexOf('[');
+    int objectStart = text.indexOf('{');
+    int start = arrayStart >= 0 && objectStart >= 0 ? Math.min(arrayStart, objectStart) : Math.max(arrayStart, objectStart);
+    int end = text.charAt(start) == '[' ? text.lastIndexOf(']') : text.lastIndexOf('}');
+    return text.substring(start, end + 1);
+  }
+}
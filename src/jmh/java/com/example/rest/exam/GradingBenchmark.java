@@ -0,0 +1,61 @@
+package com.example.rest.exam;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradingBenchmark {
+  @Param({"100", "10000"})
+  private int answerCount;
+
+  @Param({"Java", "Theory"})
+  private String category;
+
+  private AnswerGrader grader;
+  private List<GradingCase> cases;
+
+  @Setup
+  public void setUp() {
+    grader = new AnswerGrader(
+        List.of(new ExactAnswerStage(), new CodingOutputStage(), new TextVariantStage(0.5)),
+        Optional.empty()
+    );
+    cases = new ArrayList<>(answerCount);
+    for (int i = 0; i < answerCount; i++) {
+      String expected;
+      String answer;
+      if ("Theory".equals(category)) {
+        expected = "인덱스(색인) 접근 " + i;
+        answer = i % 3 == 0 ? "색인 접근 " + i : i % 7 == 0 ? "순차 접근 " + i : "인덱스 접근 " + i;
+      } else {
+        String output = "sum = " + i + "\r\navg = " + (i / 2.0) + "\r\n";
+        answer = i % 3 == 0 ? "  " + output.replace(" = ", "  =  ") + "  " : output;
+        expected = i % 7 == 0 ? "sum = " + (i + 1) : output.replace("\r\n", "\n");
+      }
+      cases.add(new GradingCase((long) i, category, expected, null, answer));
+    }
+  }
+
+  @Benchmark
+  public boolean[] gradeAll() {
+    return grader.grade(cases);
+  }
+}
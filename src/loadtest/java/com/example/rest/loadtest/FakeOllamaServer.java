@@ -0,0 +1,165 @@
+package com.example.rest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class FakeOllamaServer {
+  private static final Pattern COUNT = Pattern.compile("생성 개수: (\\d+)");
+  private static final Pattern CATEGORY = Pattern.compile("(?:요청 카테고리: |언어는 )([^\\s]+)");
+  private static final int CHARS_PER_TOKEN = 4;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final LoadTestOptions options;
+  private final AtomicLong requests = new AtomicLong();
+
+  public FakeOllamaServer(LoadTestOptions options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) throws IOException {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    FakeOllamaServer server = new FakeOllamaServer(options);
+    server.start(options.getInt("port", 18434));
+  }
+
+  public void start(int port) throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+    server.createContext("/api/generate", this::handle);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.start();
+    System.out.printf("Fake Ollama listening on :%d (tokens/s=%d, latency=%dms+exp(%dms), failure-rate=%.2f, abort-rate=%.2f)%n",
+        port,
+        options.getInt("tokens-per-second", 40),
+        options.getLong("latency-ms", 300),
+        options.getLong("latency-jitter-ms", 200),
+        options.getDouble("failure-rate", 0),
+        options.getDouble("abort-rate", 0));
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+      long id = requests.incrementAndGet();
+      String prompt = body.path("prompt").asText("");
+      boolean stream = body.path("stream").asBoolean(true);
+
+      sleep(firstTokenLatencyMs());
+
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      if (random.nextDouble() < options.getDouble("failure-rate", 0)) {
+        byte[] error = objectMapper.writeValueAsBytes(Map.of("error", "injected failure #" + id));
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(500, error.length);
+        exchange.getResponseBody().write(error);
+        return;
+      }
+
+      String text = objectMapper.writeValueAsString(buildItems(prompt));
+      exchange.getResponseHeaders().set("Content-Type", stream ? "application/x-ndjson" : "application/json");
+      if (stream) {
+        writeStream(exchange, text, random.nextDouble() < options.getDouble("abort-rate", 0));
+      } else {
+        sleep(text.length() / CHARS_PER_TOKEN * tokenIntervalMs());
+        byte[] payload = objectMapper.writeValueAsBytes(chunk(text, true));
+        exchange.sendResponseHeaders(200, payload.length);
+        exchange.getResponseBody().write(payload);
+      }
+    } catch (IOException ex) {
+      System.err.println("Fake Ollama request failed: " + ex.getMessage());
+    }
+  }
+
+  private void writeStream(HttpExchange exchange, String text, boolean abort) throws IOException {
+    exchange.sendResponseHeaders(200, 0);
+    OutputStream out = exchange.getResponseBody();
+    int abortAt = abort ? ThreadLocalRandom.current().nextInt(Math.max(1, text.length())) : -1;
+    long interval = tokenIntervalMs();
+    for (int i = 0; i < text.length(); i += CHARS_PER_TOKEN) {
+      if (abortAt >= 0 && i >= abortAt) {
+        out.write(line(Map.of("error", "injected stream abort")));
+        out.flush();
+        return;
+      }
+      out.write(line(chunk(text.substring(i, Math.min(text.length(), i + CHARS_PER_TOKEN)), false)));
+      out.flush();
+      sleep(interval);
+    }
+    out.write(line(chunk("", true)));
+    out.flush();
+  }
+
+  private List<Map<String, String>> buildItems(String prompt) {
+    Matcher countMatcher = COUNT.matcher(prompt);
+    int count = countMatcher.find() ? Integer.parseInt(countMatcher.group(1)) : 5;
+    Matcher categoryMatcher = CATEGORY.matcher(prompt);
+    String category = categoryMatcher.find() ? categoryMatcher.group(1) : "Theory";
+
+    List<Map<String, String>> items = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int n = ThreadLocalRandom.current().nextInt(1000);
+      Map<String, String> item = new LinkedHashMap<>();
+      item.put("category", category);
+      item.put("question_text", "다음 코드의 출력 결과를 작성하시오.\nint x = " + n + ";\nprint(x % 10);");
+      item.put("answer_text", String.valueOf(n % 10));
+      item.put("explanation", "나머지 연산 결과는 " + (n % 10) + "이다.");
+      items.add(item);
+    }
+    return items;
+  }
+
+  private Map<String, Object> chunk(String response, boolean done) {
+    Map<String, Object> chunk = new LinkedHashMap<>();
+    chunk.put("response", response);
+    chunk.put("done", done);
+    return chunk;
+  }
+
+  private byte[] line(Object value) throws IOException {
+    return (objectMapper.writeValueAsString(value) + "\n").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private long firstTokenLatencyMs() {
+    long base = options.getLong("latency-ms", 300);
+    long jitter = options.getLong("latency-jitter-ms", 200);
+    if (jitter <= 0) {
+      return base;
+    }
+    double exponential = -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * jitter;
+    return base + (long) exponential;
+  }
+
+  private long tokenIntervalMs() {
+    int tokensPerSecond = options.getInt("tokens-per-second", 40);
+    return tokensPerSecond <= 0 ? 0 : 1000L / tokensPerSecond;
+  }
+
+  private static void sleep(long millis) {
+    if (millis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.rest.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class LatencyRecorder {
+  private long[] samples = new long[1024];
+  private int size;
+  private long errors;
+  private final Map<String, Long> errorCounts = new TreeMap<>();
+
+  public synchronized void record(long elapsedNanos) {
+    if (size == samples.length) {
+      samples = Arrays.copyOf(samples, size * 2);
+    }
+    samples[size++] = elapsedNanos;
+  }
+
+  public synchronized void recordError(String reason) {
+    errors++;
+    errorCounts.merge(reason, 1L, Long::sum);
+  }
+
+  public synchronized Summary summarize() {
+    long[] sorted = Arrays.copyOf(samples, size);
+    Arrays.sort(sorted);
+    return new Summary(
+        size,
+        errors,
+        percentile(sorted, 0.50),
+        percentile(sorted, 0.99),
+        size == 0 ? 0 : sorted[size - 1] / 1_000_000.0,
+        Map.copyOf(errorCounts)
+    );
+  }
+
+  private static double percentile(long[] sorted, double quantile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(0, index)] / 1_000_000.0;
+  }
+
+  public record Summary(
+      long count,
+      long errors,
+      double p50Ms,
+      double p99Ms,
+      double maxMs,
+      Map<String, Long> errorCounts
+  ) {
+  }
+}
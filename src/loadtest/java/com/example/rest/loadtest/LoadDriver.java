@@ -0,0 +1,168 @@
+package com.example.rest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class LoadDriver {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+  private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+  private final String baseUrl;
+  private final String[] categories;
+  private final String password;
+  private final Duration requestTimeout;
+
+  public LoadDriver(LoadTestOptions options) {
+    this.baseUrl = options.get("base-url", "http://localhost:8080");
+    this.categories = options.get("categories", "Theory,C,Java,Python").split(",");
+    this.password = options.get("password", "loadtest-password");
+    this.requestTimeout = Duration.ofMillis(options.getLong("request-timeout-ms", 180000));
+    for (String endpoint : List.of("login", "session", "grade", "wrong")) {
+      recorders.put(endpoint, new LatencyRecorder());
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    new LoadDriver(options).run(
+        options.getInt("users", 20),
+        Duration.ofSeconds(options.getLong("duration-s", 60)),
+        options.get("run-id", Long.toString(System.currentTimeMillis(), 36))
+    );
+  }
+
+  public void run(int users, Duration duration, String runId) throws Exception {
+    List<String> usernames = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      String username = "lt-" + runId + "-" + i;
+      register(username);
+      usernames.add(username);
+    }
+
+    System.out.printf("Running %d users for %ds against %s%n", users, duration.toSeconds(), baseUrl);
+    long started = System.nanoTime();
+    long deadline = started + duration.toNanos();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (String username : usernames) {
+        executor.submit(() -> {
+          while (System.nanoTime() < deadline) {
+            runFlow(username);
+          }
+        });
+      }
+      executor.shutdown();
+      executor.awaitTermination(duration.toMillis() + requestTimeout.toMillis() * 4, TimeUnit.MILLISECONDS);
+    }
+    report((System.nanoTime() - started) / 1_000_000_000.0);
+  }
+
+  private void runFlow(String username) {
+    String category = categories[ThreadLocalRandom.current().nextInt(categories.length)];
+
+    JsonNode login = call("login", post("/api/auth/login", Map.of("username", username, "password", password), null));
+    if (login == null) {
+      return;
+    }
+    String token = login.path("accessToken").asText();
+
+    JsonNode session = call("session", post("/api/exam-ai/session", Map.of("category", category), token));
+    if (session == null) {
+      return;
+    }
+
+    List<Map<String, Object>> answers = new ArrayList<>();
+    for (JsonNode item : session.path("items")) {
+      answers.add(Map.of(
+          "id", item.path("id").asLong(),
+          "user_answer", String.valueOf(ThreadLocalRandom.current().nextInt(10))
+      ));
+    }
+    if (!answers.isEmpty() && call("grade", post("/api/exam-ai/grade", Map.of("answers", answers), token)) == null) {
+      return;
+    }
+
+    String query = "?category=" + URLEncoder.encode(category, StandardCharsets.UTF_8);
+    call("wrong", request("/api/exam-ai/wrong" + query, token).GET().build());
+  }
+
+  private void register(String username) throws Exception {
+    Map<String, String> body = Map.of(
+        "email", username + "@loadtest.local",
+        "username", username,
+        "password", password
+    );
+    HttpResponse<String> response = httpClient.send(post("/api/auth/register", body, null), HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200 && response.statusCode() != 409) {
+      throw new IllegalStateException("Register failed for " + username + ": " + response.statusCode() + " " + response.body());
+    }
+  }
+
+  private JsonNode call(String endpoint, HttpRequest request) {
+    LatencyRecorder recorder = recorders.get(endpoint);
+    long started = System.nanoTime();
+    try {
+      HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+      if (response.statusCode() / 100 != 2) {
+        recorder.recordError("HTTP " + response.statusCode());
+        return null;
+      }
+      recorder.record(System.nanoTime() - started);
+      return objectMapper.readTree(response.body());
+    } catch (Exception ex) {
+      recorder.recordError(ex.getClass().getSimpleName());
+      return null;
+    }
+  }
+
+  private HttpRequest post(String path, Object body, String token) {
+    try {
+      return request(path, token)
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+          .build();
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private HttpRequest.Builder request(String path, String token) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout);
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder;
+  }
+
+  private void report(double elapsedSeconds) {
+    System.out.printf("%n%-8s %8s %8s %10s %10s %10s %10s%n", "endpoint", "ok", "errors", "p50(ms)", "p99(ms)", "max(ms)", "req/s");
+    for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+      LatencyRecorder.Summary summary = entry.getValue().summarize();
+      System.out.printf("%-8s %8d %8d %10.1f %10.1f %10.1f %10.2f%n",
+          entry.getKey(),
+          summary.count(),
+          summary.errors(),
+          summary.p50Ms(),
+          summary.p99Ms(),
+          summary.maxMs(),
+          summary.count() / elapsedSeconds);
+      summary.errorCounts().forEach((reason, count) -> System.out.printf("         %s x%d%n", reason, count));
+    }
+  }
+}
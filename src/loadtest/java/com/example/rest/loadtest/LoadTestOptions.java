@@ -0,0 +1,47 @@
+package com.example.rest.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadTestOptions {
+  private final Map<String, String> values;
+
+  private LoadTestOptions(Map<String, String> values) {
+    this.values = values;
+  }
+
+  public static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--")) {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+      int eq = arg.indexOf('=');
+      if (eq < 0) {
+        values.put(arg.substring(2), "true");
+      } else {
+        values.put(arg.substring(2, eq), arg.substring(eq + 1));
+      }
+    }
+    return new LoadTestOptions(values);
+  }
+
+  public String get(String name, String defaultValue) {
+    return values.getOrDefault(name, defaultValue);
+  }
+
+  public int getInt(String name, int defaultValue) {
+    String value = values.get(name);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  }
+
+  public long getLong(String name, long defaultValue) {
+    String value = values.get(name);
+    return value == null ? defaultValue : Long.parseLong(value);
+  }
+
+  public double getDouble(String name, double defaultValue) {
+    String value = values.get(name);
+    return value == null ? defaultValue : Double.parseDouble(value);
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.rest.auth;
+
+import com.example.rest.auth.dto.BulkRegisterResponse;
+import java.io.InputStream;
+import java.security.Principal;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/users")
+public class AdminUserController {
+  private final BulkRegistrationService bulkRegistrationService;
+
+  public AdminUserController(BulkRegistrationService bulkRegistrationService) {
+    this.bulkRegistrationService = bulkRegistrationService;
+  }
+
+  @PostMapping(value = "/bulk", consumes = {"text/csv", "text/plain"})
+  public ResponseEntity<BulkRegisterResponse> bulkRegister(Principal principal, InputStream body) {
+    return ResponseEntity.ok(bulkRegistrationService.register(principal.getName(), body));
+  }
+}
@@ -20,6 +20,9 @@ import org.springframework.http.ResponseCookie;
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
+  private static final String REFRESH_COOKIE_PATH = "/api/auth";
+  private static final String LEGACY_REFRESH_COOKIE_PATH = "/api/auth/refresh";
+
   private final AuthService authService;
 
   @Value("${app.jwt.refresh-expiration-ms}")
@@ -53,19 +56,38 @@ public class AuthController {
     return buildAuthResponse(tokens);
   }
 
+  @PostMapping("/logout")
+  public ResponseEntity<Void> logout(
+    @CookieValue(value = "refresh_token", required = false) String refreshToken
+  ) {
+    if (refreshToken != null && !refreshToken.isBlank()) {
+      authService.logout(refreshToken);
+    }
+
+    return ResponseEntity.noContent()
+      .header(HttpHeaders.SET_COOKIE, refreshCookie("", Duration.ZERO, REFRESH_COOKIE_PATH).toString())
+      .header(HttpHeaders.SET_COOKIE, refreshCookie("", Duration.ZERO, LEGACY_REFRESH_COOKIE_PATH).toString())
+      .build();
+  }
+
   @SuppressWarnings("null")
   private ResponseEntity<AuthResponse> buildAuthResponse(AuthTokens tokens) {
-    ResponseCookie cookie = ResponseCookie.from("refresh_token", tokens.refreshToken())
-      .httpOnly(true)
-      .secure(false)
-      .path("/api/auth/refresh")
-      .sameSite("Lax")
-      .maxAge(Duration.ofMillis(refreshExpirationMs))
-      .build();
+    ResponseCookie cookie = refreshCookie(tokens.refreshToken(), Duration.ofMillis(refreshExpirationMs), REFRESH_COOKIE_PATH);
 
     AuthResponse response = new AuthResponse(tokens.accessToken(), tokens.username());
     return ResponseEntity.ok()
       .header(HttpHeaders.SET_COOKIE, cookie.toString())
+      .header(HttpHeaders.SET_COOKIE, refreshCookie("", Duration.ZERO, LEGACY_REFRESH_COOKIE_PATH).toString())
       .body(response);
   }
+
+  private ResponseCookie refreshCookie(String value, Duration maxAge, String path) {
+    return ResponseCookie.from("refresh_token", value)
+      .httpOnly(true)
+      .secure(false)
+      .path(path)
+      .sameSite("Lax")
+      .maxAge(maxAge)
+      .build();
+  }
 }
@@ -4,34 +4,69 @@ import com.example.rest.auth.dto.AuthRequest;
 import com.example.rest.auth.dto.AuthTokens;
 import com.example.rest.auth.dto.RegisterRequest;
 import com.example.rest.user.User;
+import com.example.rest.user.UserIdentity;
 import com.example.rest.user.UserRepository;
+import java.time.Instant;
 import java.util.regex.Pattern;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class AuthService {
+  private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
   private static final Pattern EMAIL_PATTERN = Pattern.compile(
     "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$"
   );
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHasher passwordHasher;
   private final JwtService jwtService;
+  private final TokenRevocationStore revocationStore;
 
   public AuthService(
     UserRepository userRepository,
-    PasswordEncoder passwordEncoder,
-    JwtService jwtService
+    PasswordHasher passwordHasher,
+    JwtService jwtService,
+    TokenRevocationStore revocationStore
   ) {
     this.userRepository = userRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordHasher = passwordHasher;
     this.jwtService = jwtService;
+    this.revocationStore = revocationStore;
   }
 
   public AuthTokens register(RegisterRequest request) {
+    validateRegistration(request);
+    for (UserIdentity existing : userRepository.findByUsernameOrEmail(request.username(), request.email())) {
+      if (request.email().equals(existing.getEmail())) {
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 가입된 이메일입니다.");
+      }
+      throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 가입된 아이디입니다.");
+    }
+
+    User user = new User(
+      request.username(),
+      request.email(),
+      passwordHasher.encode(request.password()),
+      "ROLE_USER"
+    );
+    try {
+      userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException ex) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 가입된 아이디 또는 이메일입니다.");
+    }
+
+    String accessToken = jwtService.generateAccessToken(user.getUsername(), user.getId());
+    String refreshToken = jwtService.generateRefreshToken(user.getUsername(), user.getId());
+    return new AuthTokens(accessToken, refreshToken, user.getUsername());
+  }
+
+  void validateRegistration(RegisterRequest request) {
     if (request.email() == null || request.email().isBlank()) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이메일을 입력해 주세요");
     }
@@ -44,24 +79,6 @@ public class AuthService {
     if (request.password() == null || request.password().isBlank()) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "비밀번호를 입력해 주세요");
     }
-    if (userRepository.existsByEmail(request.email())) {
-      throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 가입된 이메일입니다.");
-    }
-    if (userRepository.existsByUsername(request.username())) {
-      throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 가입된 아이디입니다.");
-    }
-
-    User user = new User(
-      request.username(),
-      request.email(),
-      passwordEncoder.encode(request.password()),
-      "ROLE_USER"
-    );
-    userRepository.save(user);
-
-    String accessToken = jwtService.generateAccessToken(user.getUsername());
-    String refreshToken = jwtService.generateRefreshToken(user.getUsername());
-    return new AuthTokens(accessToken, refreshToken, user.getUsername());
   }
 
   public AuthTokens login(AuthRequest request) {
@@ -74,24 +91,50 @@ public class AuthService {
     User user = userRepository.findByUsername(request.username())
       .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다"));
 
-    if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+    if (!passwordHasher.matches(request.password(), user.getPassword())) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다");
     }
+    if (passwordHasher.needsRehash(user.getPassword())) {
+      Long userId = user.getId();
+      String oldHash = user.getPassword();
+      passwordHasher.encodeAsync(request.password())
+        .thenAccept(hash -> userRepository.updatePasswordIfUnchanged(userId, oldHash, hash))
+        .exceptionally(ex -> {
+          logger.warn("Password rehash for user {} failed.", userId, ex);
+          return null;
+        });
+    }
 
-    String accessToken = jwtService.generateAccessToken(user.getUsername());
-    String refreshToken = jwtService.generateRefreshToken(user.getUsername());
+    String accessToken = jwtService.generateAccessToken(user.getUsername(), user.getId());
+    String refreshToken = jwtService.generateRefreshToken(user.getUsername(), user.getId());
     return new AuthTokens(accessToken, refreshToken, user.getUsername());
   }
 
   public AuthTokens refresh(String refreshToken) {
     try {
-      if (!jwtService.isRefreshToken(refreshToken)) {
+      Claims claims = jwtService.parseClaims(refreshToken);
+      String jti = claims.getId();
+      String family = jwtService.extractFamily(claims);
+      if (!jwtService.isRefreshTokenType(jwtService.extractTokenType(claims)) || jti == null || family == null) {
+        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다");
+      }
+      if (revocationStore.isRevoked(family)) {
         throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다");
       }
+      if (!revocationStore.revoke(jti, claims.getExpiration().toInstant())) {
+        revocationStore.revoke(family, Instant.now().plusMillis(jwtService.getRefreshExpirationMs()));
+        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요");
+      }
 
-      String username = jwtService.extractUsername(refreshToken);
-      String accessToken = jwtService.generateAccessToken(username);
-      String newRefreshToken = jwtService.generateRefreshToken(username);
+      String username = claims.getSubject();
+      Long userId = jwtService.extractUserId(claims);
+      if (userId == null) {
+        userId = userRepository.findByUsername(username)
+          .map(User::getId)
+          .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다"));
+      }
+      String accessToken = jwtService.generateAccessToken(username, userId);
+      String newRefreshToken = jwtService.generateRefreshToken(username, userId, family);
       return new AuthTokens(accessToken, newRefreshToken, username);
     } catch (ExpiredJwtException ex) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "토큰이 만료되었습니다");
@@ -101,4 +144,17 @@ public class AuthService {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다");
     }
   }
+
+  public void logout(String refreshToken) {
+    Claims claims;
+    try {
+      claims = jwtService.parseClaims(refreshToken);
+    } catch (Exception ex) {
+      return;
+    }
+    String family = jwtService.extractFamily(claims);
+    if (jwtService.isRefreshTokenType(jwtService.extractTokenType(claims)) && family != null) {
+      revocationStore.revoke(family, Instant.now().plusMillis(jwtService.getRefreshExpirationMs()));
+    }
+  }
 }
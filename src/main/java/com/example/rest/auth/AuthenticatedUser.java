@@ -0,0 +1,10 @@
+package com.example.rest.auth;
+
+import java.security.Principal;
+
+public record AuthenticatedUser(Long id, String username) implements Principal {
+  @Override
+  public String getName() {
+    return username;
+  }
+}
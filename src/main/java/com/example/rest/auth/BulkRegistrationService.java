@@ -0,0 +1,239 @@
+package com.example.rest.auth;
+
+import com.example.rest.auth.dto.BulkRegisterError;
+import com.example.rest.auth.dto.BulkRegisterResponse;
+import com.example.rest.auth.dto.RegisterRequest;
+import com.example.rest.user.User;
+import com.example.rest.user.UserCredential;
+import com.example.rest.user.UserIdentity;
+import com.example.rest.user.UserRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class BulkRegistrationService {
+  private static final int MAX_ERRORS = 100;
+  private static final String INSERT_USER =
+    "INSERT IGNORE INTO users (username, email, password, role) VALUES (?, ?, ?, ?)";
+
+  private final UserRepository userRepository;
+  private final AuthService authService;
+  private final PasswordHasher passwordHasher;
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public BulkRegistrationService(
+    UserRepository userRepository,
+    AuthService authService,
+    PasswordHasher passwordHasher,
+    JdbcTemplate jdbcTemplate,
+    @Value("${app.auth.bulk.batch-size:200}") int batchSize
+  ) {
+    this.userRepository = userRepository;
+    this.authService = authService;
+    this.passwordHasher = passwordHasher;
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  public BulkRegisterResponse register(String adminUsername, InputStream csv) {
+    User admin = userRepository.findByUsername(adminUsername)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자만 사용할 수 있습니다"));
+    if (!"ROLE_ADMIN".equals(admin.getRole())) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자만 사용할 수 있습니다");
+    }
+
+    Progress progress = new Progress();
+    List<Row> chunk = new ArrayList<>(batchSize);
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+      String line;
+      int lineNumber = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        List<String> fields = parseLine(line);
+        if (lineNumber == 1 && "email".equalsIgnoreCase(fields.get(0).trim())) {
+          continue;
+        }
+        if (fields.size() < 3) {
+          progress.reject(lineNumber, "email,username,password 3개 열이 필요합니다");
+          continue;
+        }
+
+        RegisterRequest request = new RegisterRequest(fields.get(0).trim(), fields.get(1).trim(), fields.get(2));
+        try {
+          authService.validateRegistration(request);
+        } catch (ResponseStatusException ex) {
+          progress.reject(lineNumber, ex.getReason());
+          continue;
+        }
+        if (!progress.claim(request)) {
+          progress.reject(lineNumber, "파일 안에 중복된 아이디 또는 이메일입니다");
+          continue;
+        }
+
+        chunk.add(new Row(lineNumber, request));
+        if (chunk.size() >= batchSize) {
+          insert(chunk, progress);
+          chunk.clear();
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    insert(chunk, progress);
+
+    return new BulkRegisterResponse(progress.created, progress.skipped, progress.errors);
+  }
+
+  private void insert(List<Row> chunk, Progress progress) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    Set<String> usernames = new HashSet<>();
+    Set<String> emails = new HashSet<>();
+    for (Row row : chunk) {
+      usernames.add(row.request().username());
+      emails.add(row.request().email());
+    }
+    Set<String> takenUsernames = new HashSet<>();
+    Set<String> takenEmails = new HashSet<>();
+    for (UserIdentity existing : userRepository.findByUsernameInOrEmailIn(usernames, emails)) {
+      takenUsernames.add(key(existing.getUsername()));
+      takenEmails.add(key(existing.getEmail()));
+    }
+
+    List<Row> rows = new ArrayList<>(chunk.size());
+    for (Row row : chunk) {
+      if (takenEmails.contains(key(row.request().email()))) {
+        progress.reject(row.line(), "이미 가입된 이메일입니다.");
+      } else if (takenUsernames.contains(key(row.request().username()))) {
+        progress.reject(row.line(), "이미 가입된 아이디입니다.");
+      } else {
+        rows.add(row);
+      }
+    }
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    List<String> passwords = new ArrayList<>(rows.size());
+    for (Row row : rows) {
+      passwords.add(row.request().password());
+    }
+    List<String> hashes = passwordHasher.encodeAll(passwords);
+
+    jdbcTemplate.batchUpdate(INSERT_USER, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement statement, int i) throws SQLException {
+        RegisterRequest request = rows.get(i).request();
+        statement.setString(1, request.username());
+        statement.setString(2, request.email());
+        statement.setString(3, hashes.get(i));
+        statement.setString(4, "ROLE_USER");
+      }
+
+      @Override
+      public int getBatchSize() {
+        return rows.size();
+      }
+    });
+
+    // INSERT IGNORE reports no per-row counts once the driver rewrites the batch, so check which hashes were stored.
+    List<String> inserted = new ArrayList<>(rows.size());
+    for (Row row : rows) {
+      inserted.add(row.request().username());
+    }
+    Set<String> storedHashes = new HashSet<>();
+    for (UserCredential stored : userRepository.findByUsernameIn(inserted)) {
+      storedHashes.add(stored.getPassword());
+    }
+    for (int i = 0; i < rows.size(); i++) {
+      if (storedHashes.contains(hashes.get(i))) {
+        progress.created++;
+      } else {
+        progress.reject(rows.get(i).line(), "이미 가입된 아이디 또는 이메일입니다.");
+      }
+    }
+  }
+
+  private static String key(String value) {
+    return value == null ? null : value.toLowerCase(Locale.ROOT);
+  }
+
+  private static List<String> parseLine(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private record Row(int line, RegisterRequest request) {}
+
+  private static final class Progress {
+    private final Set<String> usernames = new HashSet<>();
+    private final Set<String> emails = new HashSet<>();
+    private final List<BulkRegisterError> errors = new ArrayList<>();
+    private int created;
+    private int skipped;
+
+    private boolean claim(RegisterRequest request) {
+      String username = key(request.username());
+      String email = key(request.email());
+      if (usernames.contains(username) || emails.contains(email)) {
+        return false;
+      }
+      usernames.add(username);
+      emails.add(email);
+      return true;
+    }
+
+    private void reject(int line, String message) {
+      skipped++;
+      if (errors.size() < MAX_ERRORS) {
+        errors.add(new BulkRegisterError(line, message));
+      }
+    }
+  }
+}
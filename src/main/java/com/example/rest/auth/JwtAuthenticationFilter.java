@@ -18,9 +18,11 @@ import org.springframework.lang.NonNull;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private final JwtService jwtService;
+  private final VerifiedTokenCache tokenCache;
 
-  public JwtAuthenticationFilter(JwtService jwtService) {
+  public JwtAuthenticationFilter(JwtService jwtService, VerifiedTokenCache tokenCache) {
     this.jwtService = jwtService;
+    this.tokenCache = tokenCache;
   }
 
   @Override
@@ -38,16 +40,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     String token = authHeader.substring(7);
     try {
-      if (!jwtService.isAccessToken(token)) {
+      VerifiedTokenCache.VerifiedToken verified = tokenCache.verify(token);
+      if (!jwtService.isAccessTokenType(verified.type()) || verified.userId() == null) {
         writeUnauthorized(response, "토큰이 유효하지 않습니다");
         return;
       }
 
-      String username = jwtService.extractUsername(token);
+      String username = verified.username();
       if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
         UsernamePasswordAuthenticationToken authToken =
           new UsernamePasswordAuthenticationToken(
-            username,
+            new AuthenticatedUser(verified.userId(), username),
             null,
             List.of(new SimpleGrantedAuthority("ROLE_USER"))
           );
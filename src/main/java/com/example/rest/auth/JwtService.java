@@ -1,7 +1,11 @@
 package com.example.rest.auth;
 
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -9,34 +13,78 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JwtService {
-  @Value("${app.jwt.secret}")
-  private String secret;
-
-  @Value("${app.jwt.access-expiration-ms}")
-  private long accessExpirationMs;
-
-  @Value("${app.jwt.refresh-expiration-ms}")
-  private long refreshExpirationMs;
-
   private static final String TOKEN_TYPE = "type";
   private static final String ACCESS_TOKEN = "access";
   private static final String REFRESH_TOKEN = "refresh";
+  private static final String FAMILY = "fam";
+  private static final String USER_ID = "uid";
+
+  private final long accessExpirationMs;
+  private final long refreshExpirationMs;
+  private final String signingKeyId;
+  private final SecretKey signingKey;
+  private final Map<String, SecretKey> verificationKeys;
+  private final JwtParser parser;
+
+  public JwtService(
+    @Value("${app.jwt.secret}") String secret,
+    @Value("${app.jwt.key-id:default}") String keyId,
+    @Value("${app.jwt.previous-keys:}") String previousKeys,
+    @Value("${app.jwt.access-expiration-ms}") long accessExpirationMs,
+    @Value("${app.jwt.refresh-expiration-ms}") long refreshExpirationMs
+  ) {
+    this.accessExpirationMs = accessExpirationMs;
+    this.refreshExpirationMs = refreshExpirationMs;
+    this.signingKeyId = keyId;
+    this.signingKey = toKey(secret);
+
+    Map<String, SecretKey> keys = new HashMap<>();
+    for (String entry : previousKeys.split(",")) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      int separator = entry.indexOf(':');
+      if (separator <= 0) {
+        throw new IllegalStateException("app.jwt.previous-keys 형식은 kid:secret 입니다.");
+      }
+      keys.put(entry.substring(0, separator).trim(), toKey(entry.substring(separator + 1).trim()));
+    }
+    keys.put(signingKeyId, signingKey);
+    this.verificationKeys = Map.copyOf(keys);
+
+    this.parser = Jwts.parser()
+      .keyLocator(new LocatorAdapter<Key>() {
+        @Override
+        protected Key locate(JwsHeader header) {
+          return findVerificationKey(header.getKeyId());
+        }
+      })
+      .build();
+  }
 
-  public String generateAccessToken(String username) {
-    return generateToken(username, ACCESS_TOKEN, accessExpirationMs);
+  public String generateAccessToken(String username, Long userId) {
+    return generateToken(username, userId, ACCESS_TOKEN, accessExpirationMs, null);
   }
 
-  public String generateRefreshToken(String username) {
-    return generateToken(username, REFRESH_TOKEN, refreshExpirationMs);
+  public String generateRefreshToken(String username, Long userId) {
+    return generateRefreshToken(username, userId, UUID.randomUUID().toString());
   }
 
-  public String extractUsername(String token) {
-    return parseClaims(token).getSubject();
+  public String generateRefreshToken(String username, Long userId, String family) {
+    return generateToken(username, userId, REFRESH_TOKEN, refreshExpirationMs, family);
+  }
+
+  public long getRefreshExpirationMs() {
+    return refreshExpirationMs;
   }
 
   public boolean isAccessToken(String token) {
@@ -48,33 +96,65 @@ public class JwtService {
   }
 
   public String extractTokenType(String token) {
-    Object type = parseClaims(token).get(TOKEN_TYPE);
+    return extractTokenType(parseClaims(token));
+  }
+
+  public String extractTokenType(Claims claims) {
+    Object type = claims.get(TOKEN_TYPE);
     return type == null ? null : type.toString();
   }
 
+  public boolean isAccessTokenType(String type) {
+    return ACCESS_TOKEN.equals(type);
+  }
+
+  public boolean isRefreshTokenType(String type) {
+    return REFRESH_TOKEN.equals(type);
+  }
+
+  public Long extractUserId(Claims claims) {
+    Object userId = claims.get(USER_ID);
+    return userId instanceof Number number ? number.longValue() : null;
+  }
+
+  public String extractFamily(Claims claims) {
+    Object family = claims.get(FAMILY);
+    return family == null ? null : family.toString();
+  }
+
   public Claims parseClaims(String token) {
-    return Jwts.parser()
-      .verifyWith(getSigningKey())
-      .build()
-      .parseSignedClaims(token)
-      .getPayload();
+    return parser.parseSignedClaims(token).getPayload();
+  }
+
+  private SecretKey findVerificationKey(String keyId) {
+    if (keyId == null) {
+      return signingKey;
+    }
+    SecretKey key = verificationKeys.get(keyId);
+    if (key == null) {
+      throw new JwtException("Unknown JWT key id: " + keyId);
+    }
+    return key;
   }
 
-  private SecretKey getSigningKey() {
-    byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-    return Keys.hmacShaKeyFor(keyBytes);
+  private static SecretKey toKey(String secret) {
+    return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
   }
 
-  private String generateToken(String username, String type, long expirationMs) {
+  private String generateToken(String username, Long userId, String type, long expirationMs, String family) {
     Date now = new Date();
     Date expiry = new Date(now.getTime() + expirationMs);
 
     return Jwts.builder()
+      .header().keyId(signingKeyId).and()
+      .id(UUID.randomUUID().toString())
       .subject(username)
       .issuedAt(now)
       .expiration(expiry)
       .claim(TOKEN_TYPE, type)
-      .signWith(getSigningKey())
+      .claim(USER_ID, userId)
+      .claim(FAMILY, family)
+      .signWith(signingKey)
       .compact();
   }
 }
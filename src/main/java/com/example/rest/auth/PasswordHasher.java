@@ -0,0 +1,224 @@
+package com.example.rest.auth;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class PasswordHasher {
+  private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+  private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+  private static final int MIN_COST = 4;
+  private static final int MAX_COST = 31;
+
+  private final ThreadPoolExecutor executor;
+  private final long waitTimeoutMs;
+  private final int cost;
+  private final BCryptPasswordEncoder encoder;
+  private final long statsLogIntervalMs;
+  private final AtomicLong rejected = new AtomicLong();
+  private final ScheduledExecutorService statsLogger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "password-hash-stats");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private Stats lastLogged;
+
+  public PasswordHasher(
+    @Value("${app.auth.bcrypt.cost:0}") int configuredCost,
+    @Value("${app.auth.bcrypt.target-ms:250}") long targetMs,
+    @Value("${app.auth.bcrypt.min-cost:10}") int minCost,
+    @Value("${app.auth.bcrypt.max-cost:14}") int maxCost,
+    @Value("${app.auth.hashing.threads:0}") int threads,
+    @Value("${app.auth.hashing.queue-capacity:64}") int queueCapacity,
+    @Value("${app.auth.hashing.wait-timeout-ms:10000}") long waitTimeoutMs,
+    @Value("${app.auth.hashing.stats-log-interval-ms:60000}") long statsLogIntervalMs
+  ) {
+    int workerCount = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+      workerCount,
+      workerCount,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+      runnable -> {
+        Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    );
+    this.waitTimeoutMs = Math.max(1, waitTimeoutMs);
+    this.statsLogIntervalMs = statsLogIntervalMs;
+    this.cost = configuredCost > 0
+      ? clamp(configuredCost, MIN_COST, MAX_COST)
+      : calibrate(targetMs, clamp(minCost, MIN_COST, MAX_COST), clamp(maxCost, MIN_COST, MAX_COST));
+    this.encoder = new BCryptPasswordEncoder(cost);
+    logger.info("Password hashing uses BCrypt cost {} on {} threads.", cost, workerCount);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (statsLogIntervalMs > 0) {
+      statsLogger.scheduleWithFixedDelay(this::logStats, statsLogIntervalMs, statsLogIntervalMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    statsLogger.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  public String encode(String rawPassword) {
+    return await(encodeAsync(rawPassword));
+  }
+
+  public CompletableFuture<String> encodeAsync(String rawPassword) {
+    return submit(() -> encoder.encode(rawPassword));
+  }
+
+  public List<String> encodeAll(List<String> rawPasswords) {
+    List<String> encoded = new ArrayList<>(rawPasswords.size());
+    int window = executor.getMaximumPoolSize();
+    for (int start = 0; start < rawPasswords.size(); start += window) {
+      List<CompletableFuture<String>> futures = new ArrayList<>(window);
+      for (String rawPassword : rawPasswords.subList(start, Math.min(rawPasswords.size(), start + window))) {
+        futures.add(encodeAsync(rawPassword));
+      }
+      for (CompletableFuture<String> future : futures) {
+        encoded.add(await(future));
+      }
+    }
+    return encoded;
+  }
+
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return await(submit(() -> encoder.matches(rawPassword, encodedPassword)));
+  }
+
+  public boolean needsRehash(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+    return !matcher.find() || Integer.parseInt(matcher.group(1)) != cost;
+  }
+
+  public Stats stats() {
+    return new Stats(
+      cost,
+      executor.getMaximumPoolSize(),
+      executor.getActiveCount(),
+      executor.getQueue().size(),
+      executor.getQueue().remainingCapacity(),
+      executor.getCompletedTaskCount(),
+      rejected.get()
+    );
+  }
+
+  private void logStats() {
+    Stats current = stats();
+    Stats previous = lastLogged;
+    lastLogged = current;
+    if (previous != null && current.activeCount() == 0 && current.queueDepth() == 0
+        && current.completedCount() == previous.completedCount()
+        && current.rejectedCount() == previous.rejectedCount()) {
+      return;
+    }
+    logger.info("Password hashing pool: active={}/{} queue={} (free {}) completed={} rejected={}",
+      current.activeCount(),
+      current.poolSize(),
+      current.queueDepth(),
+      current.queueRemaining(),
+      current.completedCount(),
+      current.rejectedCount());
+  }
+
+  private <T> CompletableFuture<T> submit(Supplier<T> task) {
+    try {
+      return CompletableFuture.supplyAsync(task, executor);
+    } catch (RejectedExecutionException ex) {
+      long total = rejected.incrementAndGet();
+      if (total == 1 || total % 100 == 0) {
+        logger.warn("Password hashing queue is full ({} rejected so far).", total);
+      }
+      return CompletableFuture.failedFuture(
+        new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많습니다. 잠시 후 다시 시도해 주세요"));
+    }
+  }
+
+  private <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      future.cancel(true);
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많습니다. 잠시 후 다시 시도해 주세요");
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("비밀번호 처리 중 중단되었습니다.", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("비밀번호 처리 실패: " + ex.getCause().getMessage(), ex.getCause());
+    }
+  }
+
+  private static int calibrate(long targetMs, int minCost, int maxCost) {
+    BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+    probe.encode("calibration");
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < 3; i++) {
+      long started = System.nanoTime();
+      probe.encode("calibration");
+      best = Math.min(best, System.nanoTime() - started);
+    }
+
+    double measuredMs = Math.max(0.001, best / 1_000_000.0);
+    int cost = minCost;
+    while (cost < maxCost && measuredMs * 2 <= targetMs) {
+      measuredMs *= 2;
+      cost++;
+    }
+    return cost;
+  }
+
+  private static int clamp(int value, int min, int max) {
+    return Math.max(min, Math.min(max, value));
+  }
+
+  public record Stats(
+    int cost,
+    int poolSize,
+    int activeCount,
+    int queueDepth,
+    int queueRemaining,
+    long completedCount,
+    long rejectedCount
+  ) {}
+}
@@ -0,0 +1,62 @@
+package com.example.rest.auth;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class RevocationBloomFilter {
+  private static final long SEED_1 = 0xcbf29ce484222325L;
+  private static final long SEED_2 = 0x9e3779b97f4a7c15L;
+
+  private final AtomicLongArray bits;
+  private final int bitCount;
+  private final int hashCount;
+
+  RevocationBloomFilter(int expectedEntries, double falsePositiveRate) {
+    int entries = Math.max(1, expectedEntries);
+    double rate = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+    double optimalBits = -entries * Math.log(rate) / (Math.log(2) * Math.log(2));
+    int words = (int) Math.max(1, Math.min(Integer.MAX_VALUE / 64, Math.ceil(optimalBits / 64)));
+    this.bits = new AtomicLongArray(words);
+    this.bitCount = words * 64;
+    this.hashCount = Math.max(1, (int) Math.round(optimalBits / entries * Math.log(2)));
+  }
+
+  void add(CharSequence value) {
+    long h1 = hash(value, SEED_1);
+    long h2 = hash(value, SEED_2) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      int index = (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+      long mask = 1L << (index & 63);
+      int word = index >>> 6;
+      long current;
+      while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+        Thread.onSpinWait();
+      }
+    }
+  }
+
+  boolean mightContain(CharSequence value) {
+    long h1 = hash(value, SEED_1);
+    long h2 = hash(value, SEED_2) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      int index = (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+      if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long hash(CharSequence value, long seed) {
+    long h = seed;
+    for (int i = 0; i < value.length(); i++) {
+      h ^= value.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
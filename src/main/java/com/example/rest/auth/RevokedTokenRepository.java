@@ -0,0 +1,22 @@
+package com.example.rest.auth;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+	@Query("SELECT r.id FROM RevokedToken r WHERE r.expiresAt > :now")
+	List<String> findLiveIds(@Param("now") Instant now);
+
+	@Query("SELECT r.id FROM RevokedToken r WHERE r.revokedAt >= :since")
+	List<String> findIdsRevokedSince(@Param("since") Instant since);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+}
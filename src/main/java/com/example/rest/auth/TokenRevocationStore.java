@@ -0,0 +1,115 @@
+package com.example.rest.auth;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenRevocationStore {
+  private static final Logger logger = LoggerFactory.getLogger(TokenRevocationStore.class);
+  private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+  private static final String INSERT_REVOKED =
+    "INSERT IGNORE INTO revoked_token (id, expires_at, revoked_at) VALUES (?, ?, ?)";
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final int expectedEntries;
+  private final double falsePositiveRate;
+  private final long syncIntervalMs;
+  private final long pruneIntervalMs;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "token-revocation-sync");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final ReentrantLock syncLock = new ReentrantLock();
+  private volatile RevocationBloomFilter filter;
+  private Instant lastSync = Instant.EPOCH;
+  private Instant lastPrune = Instant.EPOCH;
+
+  public TokenRevocationStore(
+    RevokedTokenRepository revokedTokenRepository,
+    JdbcTemplate jdbcTemplate,
+    @Value("${app.jwt.revocation.expected-entries:100000}") int expectedEntries,
+    @Value("${app.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+    @Value("${app.jwt.revocation.sync-interval-ms:30000}") long syncIntervalMs,
+    @Value("${app.jwt.revocation.prune-interval-ms:3600000}") long pruneIntervalMs
+  ) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.expectedEntries = expectedEntries;
+    this.falsePositiveRate = falsePositiveRate;
+    this.syncIntervalMs = Math.max(1000, syncIntervalMs);
+    this.pruneIntervalMs = Math.max(this.syncIntervalMs, pruneIntervalMs);
+    this.filter = new RevocationBloomFilter(expectedEntries, falsePositiveRate);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    sync();
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        sync();
+      } catch (RuntimeException ex) {
+        logger.warn("Token revocation sync failed: {}", ex.getMessage());
+      }
+    }, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdownNow();
+  }
+
+  public boolean isRevoked(String id) {
+    if (id == null || !filter.mightContain(id)) {
+      return false;
+    }
+    return revokedTokenRepository.existsById(id);
+  }
+
+  public boolean revoke(String id, Instant expiresAt) {
+    int inserted = jdbcTemplate.update(INSERT_REVOKED, id, Timestamp.from(expiresAt), Timestamp.from(Instant.now()));
+    filter.add(id);
+    return inserted > 0;
+  }
+
+  public void sync() {
+    syncLock.lock();
+    try {
+      Instant now = Instant.now();
+      if (Duration.between(lastPrune, now).toMillis() >= pruneIntervalMs) {
+        int pruned = revokedTokenRepository.deleteExpired(now);
+        RevocationBloomFilter rebuilt = new RevocationBloomFilter(expectedEntries, falsePositiveRate);
+        for (String id : revokedTokenRepository.findLiveIds(now)) {
+          rebuilt.add(id);
+        }
+        filter = rebuilt;
+        lastPrune = now;
+        if (pruned > 0) {
+          logger.info("Pruned {} expired revoked tokens.", pruned);
+        }
+      }
+
+      RevocationBloomFilter current = filter;
+      for (String id : revokedTokenRepository.findIdsRevokedSince(lastSync.minus(SYNC_OVERLAP))) {
+        current.add(id);
+      }
+      lastSync = now;
+    } finally {
+      syncLock.unlock();
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.rest.auth;
+
+import com.example.rest.user.User;
+import com.example.rest.user.UserRepository;
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerifiedTokenCache {
+  private final JwtService jwtService;
+  private final UserRepository userRepository;
+  private final int maxEntries;
+  private final ConcurrentHashMap<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+  public VerifiedTokenCache(
+    JwtService jwtService,
+    UserRepository userRepository,
+    @Value("${app.jwt.cache-max-entries:10000}") int maxEntries
+  ) {
+    this.jwtService = jwtService;
+    this.userRepository = userRepository;
+    this.maxEntries = Math.max(0, maxEntries);
+  }
+
+  public VerifiedToken verify(String token) {
+    Instant now = Instant.now();
+    VerifiedToken cached = entries.get(token);
+    if (cached != null) {
+      if (now.isBefore(cached.expiresAt())) {
+        return cached;
+      }
+      entries.remove(token, cached);
+    }
+
+    Claims claims = jwtService.parseClaims(token);
+    Long userId = jwtService.extractUserId(claims);
+    if (userId == null && claims.getSubject() != null) {
+      userId = userRepository.findByUsername(claims.getSubject()).map(User::getId).orElse(null);
+    }
+    VerifiedToken verified = new VerifiedToken(
+      claims.getSubject(),
+      userId,
+      jwtService.extractTokenType(claims),
+      claims.getExpiration() == null ? now : claims.getExpiration().toInstant()
+    );
+    if (now.isBefore(verified.expiresAt()) && hasRoom(now)) {
+      entries.put(token, verified);
+    }
+    return verified;
+  }
+
+  private boolean hasRoom(Instant now) {
+    if (entries.size() < maxEntries) {
+      return true;
+    }
+    entries.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+    return entries.size() < maxEntries;
+  }
+
+  public record VerifiedToken(String username, Long userId, String type, Instant expiresAt) {}
+}
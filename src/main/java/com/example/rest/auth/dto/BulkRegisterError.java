@@ -0,0 +1,3 @@
+package com.example.rest.auth.dto;
+
+public record BulkRegisterError(int line, String message) {}
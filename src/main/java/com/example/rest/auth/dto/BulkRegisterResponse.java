@@ -0,0 +1,5 @@
+package com.example.rest.auth.dto;
+
+import java.util.List;
+
+public record BulkRegisterResponse(int created, int skipped, List<BulkRegisterError> errors) {}
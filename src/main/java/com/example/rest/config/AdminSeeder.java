@@ -1,24 +1,24 @@
 package com.example.rest.config;
 
+import com.example.rest.auth.PasswordHasher;
 import com.example.rest.user.User;
 import com.example.rest.user.UserRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class AdminSeeder {
   @Bean
-  public CommandLineRunner seedAdmin(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+  public CommandLineRunner seedAdmin(UserRepository userRepository, PasswordHasher passwordHasher) {
     return args -> {
       String username = "heung";
       String email = "heung@ubisam.com";
-      if (userRepository.existsByUsername(username) || userRepository.existsByEmail(email)) {
+      if (!userRepository.findByUsernameOrEmail(username, email).isEmpty()) {
         return;
       }
 
-      User admin = new User(username, email, passwordEncoder.encode("heung"), "ROLE_ADMIN");
+      User admin = new User(username, email, passwordHasher.encode("heung"), "ROLE_ADMIN");
       userRepository.save(admin);
     };
   }
@@ -12,6 +12,7 @@ public class ApiExceptionHandler {
   public ResponseEntity<Map<String, String>> handleResponseStatusException(ResponseStatusException ex) {
     String message = ex.getReason() == null ? "" : ex.getReason();
     return ResponseEntity.status(ex.getStatusCode())
+      .headers(ex.getHeaders())
       .body(Map.of("message", message));
   }
 }
@@ -0,0 +1,53 @@
+package com.example.rest.exam;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AnswerGrader {
+  private final List<GradingStage> stages;
+  private final AnswerJudge judge;
+
+  public AnswerGrader(List<GradingStage> stages, Optional<AnswerJudge> judge) {
+    this.stages = List.copyOf(stages);
+    this.judge = judge.orElse(null);
+  }
+
+  public boolean[] grade(List<GradingCase> cases) {
+    boolean[] correct = new boolean[cases.size()];
+    List<Integer> undecided = new ArrayList<>();
+    for (int i = 0; i < cases.size(); i++) {
+      GradingVerdict verdict = evaluate(cases.get(i));
+      if (verdict == GradingVerdict.UNDECIDED) {
+        undecided.add(i);
+      } else {
+        correct[i] = verdict == GradingVerdict.CORRECT;
+      }
+    }
+
+    if (judge != null && !undecided.isEmpty()) {
+      List<GradingCase> pending = new ArrayList<>(undecided.size());
+      for (int index : undecided) {
+        pending.add(cases.get(index));
+      }
+      Map<Long, Boolean> verdicts = judge.judge(pending);
+      for (int index : undecided) {
+        correct[index] = Boolean.TRUE.equals(verdicts.get(cases.get(index).id()));
+      }
+    }
+    return correct;
+  }
+
+  GradingVerdict evaluate(GradingCase gradingCase) {
+    for (GradingStage stage : stages) {
+      GradingVerdict verdict = stage.evaluate(gradingCase);
+      if (verdict != GradingVerdict.UNDECIDED) {
+        return verdict;
+      }
+    }
+    return GradingVerdict.UNDECIDED;
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.rest.exam;
+
+import java.util.List;
+import java.util.Map;
+
+public interface AnswerJudge {
+  Map<Long, Boolean> judge(List<GradingCase> cases);
+}
@@ -0,0 +1,185 @@
+package com.example.rest.exam;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+final class AnswerText {
+  private static final String DECORATIONS = "()[]{}<>\"'`.,;:!?·~";
+
+  private AnswerText() {
+  }
+
+  static boolean sameIgnoringLineEndings(String left, String right) {
+    int leftStart = skipLeading(left);
+    int leftEnd = skipTrailing(left, leftStart);
+    int rightStart = skipLeading(right);
+    int rightEnd = skipTrailing(right, rightStart);
+
+    int i = leftStart;
+    int j = rightStart;
+    while (true) {
+      while (i < leftEnd && left.charAt(i) == '\r') {
+        i++;
+      }
+      while (j < rightEnd && right.charAt(j) == '\r') {
+        j++;
+      }
+      if (i == leftEnd || j == rightEnd) {
+        return i == leftEnd && j == rightEnd;
+      }
+      if (left.charAt(i++) != right.charAt(j++)) {
+        return false;
+      }
+    }
+  }
+
+  static String outputLines(String value) {
+    StringBuilder builder = new StringBuilder(value.length());
+    int pendingBreaks = 0;
+    boolean pendingSpace = false;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\n') {
+        pendingBreaks++;
+        pendingSpace = false;
+      } else if (c == '\r' || Character.isWhitespace(c)) {
+        pendingSpace = true;
+      } else {
+        if (!builder.isEmpty()) {
+          if (pendingBreaks > 0) {
+            builder.append("\n".repeat(pendingBreaks));
+          } else if (pendingSpace) {
+            builder.append(' ');
+          }
+        }
+        pendingBreaks = 0;
+        pendingSpace = false;
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  static String canonical(String value) {
+    value = nfkc(value);
+    StringBuilder builder = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        builder.append(Character.toLowerCase(c));
+      } else if (!Character.isWhitespace(c) && (DECORATIONS.indexOf(c) < 0 || betweenDigits(value, i))) {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  private static String nfkc(String value) {
+    return Normalizer.isNormalized(value, Normalizer.Form.NFKC)
+        ? value
+        : Normalizer.normalize(value, Normalizer.Form.NFKC);
+  }
+
+  private static boolean betweenDigits(String value, int index) {
+    return index > 0
+        && index + 1 < value.length()
+        && Character.isDigit(value.charAt(index - 1))
+        && Character.isDigit(value.charAt(index + 1));
+  }
+
+  static List<String> variants(String expected, String aliases) {
+    List<String> variants = new ArrayList<>(4);
+    String normalized = nfkc(expected);
+    addVariant(variants, normalized);
+    if (normalized.indexOf('(') >= 0) {
+      addVariant(variants, withoutParentheticals(normalized));
+      addVariant(variants, withParentheticalsSubstituted(normalized));
+    }
+    if (aliases != null) {
+      for (String alias : aliases.split("\\|")) {
+        addVariant(variants, alias);
+      }
+    }
+    return variants;
+  }
+
+  static double bigramSimilarity(String left, String right) {
+    if (left.length() < 2 || right.length() < 2) {
+      return left.equals(right) ? 1.0 : 0.0;
+    }
+    int matches = 0;
+    boolean[] used = new boolean[right.length() - 1];
+    for (int i = 0; i < left.length() - 1; i++) {
+      for (int j = 0; j < right.length() - 1; j++) {
+        if (!used[j] && left.charAt(i) == right.charAt(j) && left.charAt(i + 1) == right.charAt(j + 1)) {
+          used[j] = true;
+          matches++;
+          break;
+        }
+      }
+    }
+    return 2.0 * matches / (left.length() - 1 + right.length() - 1);
+  }
+
+  private static void addVariant(List<String> variants, String value) {
+    String canonical = canonical(value);
+    if (!canonical.isEmpty() && !variants.contains(canonical)) {
+      variants.add(canonical);
+    }
+  }
+
+  private static String withoutParentheticals(String value) {
+    StringBuilder builder = new StringBuilder(value.length());
+    int depth = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '(') {
+        depth++;
+      } else if (c == ')' && depth > 0) {
+        depth--;
+      } else if (depth == 0) {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  private static String withParentheticalsSubstituted(String value) {
+    StringBuilder builder = new StringBuilder(value.length());
+    int i = 0;
+    while (i < value.length()) {
+      char c = value.charAt(i);
+      int close = c == '(' ? value.indexOf(')', i) : -1;
+      if (close < 0) {
+        builder.append(c);
+        i++;
+        continue;
+      }
+      int wordStart = builder.length();
+      while (wordStart > 0 && !Character.isWhitespace(builder.charAt(wordStart - 1))) {
+        wordStart--;
+      }
+      builder.setLength(wordStart);
+      builder.append(value, i + 1, close);
+      i = close + 1;
+    }
+    return builder.toString();
+  }
+
+  private static int skipLeading(String value) {
+    int i = 0;
+    while (i < value.length() && Character.isWhitespace(value.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int skipTrailing(String value, int start) {
+    int end = value.length();
+    while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+      end--;
+    }
+    return end;
+  }
+}
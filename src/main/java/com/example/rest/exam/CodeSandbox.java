@@ -0,0 +1,222 @@
+package com.example.rest.exam;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CodeSandbox {
+  private static final int MAX_OUTPUT_BYTES = 64 * 1024;
+  private static final int COMPILE_FAILED_EXIT = 125;
+  private static final String JAIL_SCRIPT = """
+      set -e
+      command_path=$PATH
+      PATH=/usr/sbin:/usr/bin:/sbin:/bin
+      root=$1; source=$2; processes=$3; memory=$4; cpu=$5
+      shift 5
+      mount -t tmpfs -o size=16m,mode=755 sandbox "$root"
+      while [ "$1" != "--" ]; do
+        path=$1
+        shift
+        [ -e "$path" ] || continue
+        mkdir -p "$root$(dirname "$path")"
+        if [ -L "$path" ]; then
+          ln -s "$(readlink "$path")" "$root$path"
+          continue
+        fi
+        if [ -d "$path" ]; then mkdir -p "$root$path"; else touch "$root$path"; fi
+        mount --rbind "$path" "$root$path"
+        mount -o remount,bind,ro,nosuid,nodev "$root$path"
+      done
+      shift
+      mkdir -p "$root/work" "$root/tmp" "$root/proc" "$root/dev" "$root/.old"
+      mount -t tmpfs -o size=32m,mode=777 work "$root/work"
+      mount -t tmpfs -o size=16m,mode=1777 tmp "$root/tmp"
+      cp -R "$source"/. "$root/work/"
+      for device in null zero random urandom; do
+        touch "$root/dev/$device"
+        mount --bind "/dev/$device" "$root/dev/$device"
+      done
+      mount -t proc -o nosuid,nodev,noexec proc "$root/proc"
+      cd "$root"
+      pivot_root . .old
+      umount -l /.old
+      rmdir /.old
+      mount -o remount,bind,ro /
+      cd /work
+      PATH=$command_path
+      exec setpriv --no-new-privs --bounding-set -all --inh-caps -all \\
+        prlimit --nproc="$processes" --as="$memory" --cpu="$cpu" --fsize=1048576 -- "$@"
+      """;
+
+  private final List<String> readOnlyPaths;
+  private final long timeoutMs;
+  private final int cpuSeconds;
+  private final long memoryBytes;
+  private final long javaMemoryBytes;
+  private final int maxProcesses;
+  private final int runAsUid;
+
+  public CodeSandbox(
+      @Value("${app.exam-ai.verify.read-only-paths:/usr,/bin,/sbin,/lib,/lib32,/lib64,/opt/java,/etc/alternatives,/etc/ld.so.cache}")
+      List<String> readOnlyPaths,
+      @Value("${app.exam-ai.verify.timeout-ms:5000}") long timeoutMs,
+      @Value("${app.exam-ai.verify.cpu-seconds:2}") int cpuSeconds,
+      @Value("${app.exam-ai.verify.memory-mb:256}") int memoryMb,
+      @Value("${app.exam-ai.verify.java-memory-mb:768}") int javaMemoryMb,
+      @Value("${app.exam-ai.verify.max-processes:64}") int maxProcesses,
+      @Value("${app.exam-ai.verify.run-as-uid:65534}") int runAsUid
+  ) {
+    this.readOnlyPaths = readOnlyPaths.stream().map(String::trim).filter(path -> path.startsWith("/")).toList();
+    this.timeoutMs = Math.max(100, timeoutMs);
+    this.cpuSeconds = Math.max(1, cpuSeconds);
+    this.memoryBytes = Math.max(16, memoryMb) * 1024L * 1024L;
+    this.javaMemoryBytes = Math.max(256, javaMemoryMb) * 1024L * 1024L;
+    this.maxProcesses = Math.max(1, maxProcesses);
+    this.runAsUid = runAsUid;
+  }
+
+  public Result run(String language, String code) {
+    Path workDir = null;
+    try {
+      workDir = Files.createTempDirectory("exam-sandbox-");
+      Path source = Files.createDirectory(workDir.resolve("src"));
+      Files.createDirectory(workDir.resolve("root"));
+      return switch (language) {
+        case "python" -> {
+          Files.writeString(source.resolve("main.py"), code);
+          yield exec(workDir, memoryBytes, "python3", "-I", "-S", "main.py");
+        }
+        case "java" -> {
+          Files.writeString(source.resolve("Main.java"), code);
+          yield exec(workDir, javaMemoryBytes, "java", "-Xmx128m", "-Xss512k", "-XX:+UseSerialGC",
+              "-XX:TieredStopAtLevel=1", "-XX:ReservedCodeCacheSize=32m", "-XX:MaxMetaspaceSize=96m",
+              "-XX:CompressedClassSpaceSize=32m", "-XX:ActiveProcessorCount=1", "Main.java");
+        }
+        case "c" -> {
+          Files.writeString(source.resolve("main.c"), code);
+          yield exec(workDir, memoryBytes, "/bin/sh", "-c",
+              "gcc -O0 -w -o main main.c -lm || exit " + COMPILE_FAILED_EXIT + "; exec ./main");
+        }
+        default -> new Result(Status.UNAVAILABLE, null);
+      };
+    } catch (IOException ex) {
+      return new Result(Status.UNAVAILABLE, ex.getMessage());
+    } finally {
+      deleteQuietly(workDir);
+    }
+  }
+
+  private Result exec(Path workDir, long memoryLimit, String... command) throws IOException {
+    List<String> fullCommand = new ArrayList<>();
+    if (runAsUid >= 0 && isRoot()) {
+      openForUid(workDir);
+      fullCommand.addAll(List.of(
+          "setpriv", "--reuid=" + runAsUid, "--regid=" + runAsUid, "--clear-groups"));
+    }
+    fullCommand.addAll(List.of(
+        "unshare", "--user", "--map-root-user", "--net", "--mount", "--pid", "--fork", "--kill-child",
+        "/bin/sh", "-c", JAIL_SCRIPT, "sandbox",
+        workDir.resolve("root").toString(),
+        workDir.resolve("src").toString(),
+        Integer.toString(maxProcesses),
+        Long.toString(memoryLimit),
+        Integer.toString(cpuSeconds)));
+    fullCommand.addAll(readOnlyPaths);
+    fullCommand.add("--");
+    fullCommand.addAll(List.of(command));
+
+    Path output = workDir.resolve(".output");
+    ProcessBuilder builder = new ProcessBuilder(fullCommand)
+        .directory(workDir.toFile())
+        .redirectErrorStream(true)
+        .redirectOutput(output.toFile());
+    Map<String, String> environment = builder.environment();
+    String path = environment.getOrDefault("PATH", "/usr/local/bin:/usr/bin:/bin");
+    environment.clear();
+    environment.put("PATH", path);
+    environment.put("HOME", "/work");
+    environment.put("LANG", "C.UTF-8");
+    environment.put("MALLOC_ARENA_MAX", "2");
+
+    Process process = builder.start();
+    process.getOutputStream().close();
+    try {
+      if (!process.waitFor(timeoutMs, TimeUnit.MILLISECONDS)) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+        return new Result(Status.TIMEOUT, null);
+      }
+    } catch (InterruptedException ex) {
+      process.descendants().forEach(ProcessHandle::destroyForcibly);
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+      return new Result(Status.TIMEOUT, null);
+    }
+
+    String text = readOutput(output);
+    return switch (process.exitValue()) {
+      case 0 -> new Result(Status.OK, text);
+      case COMPILE_FAILED_EXIT -> new Result(Status.COMPILE_ERROR, text);
+      default -> new Result(Status.RUNTIME_ERROR, text);
+    };
+  }
+
+  private static boolean isRoot() {
+    try {
+      return Integer.valueOf(0).equals(Files.getAttribute(Path.of("/proc/self"), "unix:uid"));
+    } catch (IOException | UnsupportedOperationException ex) {
+      return false;
+    }
+  }
+
+  private static void openForUid(Path workDir) throws IOException {
+    try (Stream<Path> paths = Files.walk(workDir)) {
+      for (Path path : paths.toList()) {
+        Files.setPosixFilePermissions(path, PosixFilePermissions.fromString(
+            Files.isDirectory(path) ? "rwxr-xr-x" : "rw-r--r--"));
+      }
+    }
+  }
+
+  private String readOutput(Path output) throws IOException {
+    if (!Files.exists(output)) {
+      return "";
+    }
+    try (InputStream input = Files.newInputStream(output)) {
+      return new String(input.readNBytes(MAX_OUTPUT_BYTES), StandardCharsets.UTF_8);
+    }
+  }
+
+  private void deleteQuietly(Path workDir) {
+    if (workDir == null) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(workDir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (IOException ex) {
+      // temp directory cleanup is best effort
+    }
+  }
+
+  public enum Status {
+    OK,
+    COMPILE_ERROR,
+    RUNTIME_ERROR,
+    TIMEOUT,
+    UNAVAILABLE
+  }
+
+  public record Result(Status status, String output) {}
+}
@@ -0,0 +1,5 @@
+package com.example.rest.exam;
+
+public record CodeVerification(VerificationStatus status, String output) {
+  static final CodeVerification SKIPPED = new CodeVerification(VerificationStatus.SKIPPED, null);
+}
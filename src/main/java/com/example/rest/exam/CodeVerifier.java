@@ -0,0 +1,216 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CodeVerifier {
+  private static final Logger logger = LoggerFactory.getLogger(CodeVerifier.class);
+  private static final Map<String, String> PROBES = Map.of(
+      "python", "print('ok')",
+      "java", "public class Main { public static void main(String[] args) { System.out.println(\"ok\"); } }",
+      "c", "#include <stdio.h>\nint main(void) { printf(\"ok\\n\"); return 0; }"
+  );
+
+  private final CodeSandbox sandbox;
+  private final boolean enabled;
+  private final int maxEntries;
+  private final ThreadPoolExecutor executor;
+  private final ConcurrentHashMap<String, CompletableFuture<CodeSandbox.Result>> results = new ConcurrentHashMap<>();
+  private volatile Set<String> languages = Set.of();
+
+  public CodeVerifier(
+      CodeSandbox sandbox,
+      @Value("${app.exam-ai.verify.enabled:false}") boolean enabled,
+      @Value("${app.exam-ai.verify.threads:2}") int threads,
+      @Value("${app.exam-ai.verify.queue-capacity:64}") int queueCapacity,
+      @Value("${app.exam-ai.verify.cache-max-entries:5000}") int maxEntries
+  ) {
+    this.sandbox = sandbox;
+    this.enabled = enabled;
+    this.maxEntries = Math.max(1, maxEntries);
+    int workerCount = Math.max(1, threads);
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+        workerCount,
+        workerCount,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+        runnable -> {
+          Thread thread = new Thread(runnable, "code-verify-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+    );
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    executor.execute(() -> {
+      Set<String> available = ConcurrentHashMap.newKeySet();
+      PROBES.forEach((language, code) -> {
+        CodeSandbox.Result result = sandbox.run(language, code);
+        if (result.status() == CodeSandbox.Status.OK && "ok".equals(result.output().trim())) {
+          available.add(language);
+        } else {
+          logger.warn("Code verification for {} is unavailable: {} {}", language, result.status(), result.output());
+        }
+      });
+      languages = Set.copyOf(available);
+      logger.info("Code verification enabled for {}", languages);
+    });
+  }
+
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  public CompletableFuture<CodeVerification> verify(String category, String questionText, String answerText) {
+    String language = category == null ? null : category.trim().toLowerCase(Locale.ROOT);
+    if (!enabled || language == null || !languages.contains(language)) {
+      return CompletableFuture.completedFuture(CodeVerification.SKIPPED);
+    }
+    String code = extractCode(questionText);
+    if (code == null) {
+      return CompletableFuture.completedFuture(CodeVerification.SKIPPED);
+    }
+
+    String program = prepare(language, code);
+    String key = hash(language, program);
+    CompletableFuture<CodeSandbox.Result> result = results.get(key);
+    if (result == null) {
+      if (results.size() >= maxEntries) {
+        Iterator<String> keys = results.keySet().iterator();
+        if (keys.hasNext()) {
+          results.remove(keys.next());
+        }
+      }
+      CompletableFuture<CodeSandbox.Result> created = new CompletableFuture<>();
+      result = results.putIfAbsent(key, created);
+      if (result == null) {
+        result = created;
+        try {
+          executor.execute(() -> created.complete(sandbox.run(language, program)));
+        } catch (RejectedExecutionException ex) {
+          results.remove(key, created);
+          return CompletableFuture.completedFuture(CodeVerification.SKIPPED);
+        }
+      }
+    }
+    return result.thenApply(run -> toVerification(run, answerText));
+  }
+
+  public List<GeneratedExamItem> verifyItems(String category, List<GeneratedExamItem> items, long timeoutMs) {
+    List<CompletableFuture<CodeVerification>> verifications = new ArrayList<>(items.size());
+    for (GeneratedExamItem item : items) {
+      verifications.add(verify(category, item.question_text(), item.answer_text()));
+    }
+
+    List<GeneratedExamItem> verified = new ArrayList<>(items.size());
+    for (int i = 0; i < items.size(); i++) {
+      GeneratedExamItem item = items.get(i);
+      CodeVerification verification = verifications.get(i)
+          .completeOnTimeout(CodeVerification.SKIPPED, timeoutMs, TimeUnit.MILLISECONDS)
+          .join();
+      switch (verification.status()) {
+        case REJECTED -> logger.debug("Dropped generated {} question whose code does not run", category);
+        case CORRECTED -> verified.add(new GeneratedExamItem(
+            item.category(),
+            item.question_text(),
+            verification.output(),
+            item.explanation(),
+            item.answer_aliases()
+        ));
+        default -> verified.add(item);
+      }
+    }
+    return verified;
+  }
+
+  static String extractCode(String questionText) {
+    if (questionText == null) {
+      return null;
+    }
+    int open = questionText.indexOf("```");
+    if (open < 0) {
+      return null;
+    }
+    int lineEnd = questionText.indexOf('\n', open);
+    int close = lineEnd < 0 ? -1 : questionText.indexOf("```", lineEnd);
+    if (close < 0) {
+      return null;
+    }
+    String code = questionText.substring(lineEnd + 1, close);
+    return code.isBlank() ? null : code;
+  }
+
+  static String prepare(String language, String code) {
+    return switch (language) {
+      case "java" -> code.contains("class ")
+          ? code
+          : "public class Main {\n  public static void main(String[] args) throws Exception {\n" + code + "\n  }\n}\n";
+      case "c" -> {
+        String includes = "#include <stdio.h>\n#include <stdlib.h>\n#include <string.h>\n";
+        yield code.contains("main(")
+            ? includes + code
+            : includes + "int main(void) {\n" + code + "\nreturn 0;\n}\n";
+      }
+      default -> code;
+    };
+  }
+
+  private CodeVerification toVerification(CodeSandbox.Result result, String answerText) {
+    return switch (result.status()) {
+      case OK -> {
+        String output = AnswerText.outputLines(result.output());
+        if (output.isEmpty()) {
+          yield new CodeVerification(VerificationStatus.REJECTED, null);
+        }
+        yield answerText != null && output.equals(AnswerText.outputLines(answerText))
+            ? new CodeVerification(VerificationStatus.VERIFIED, output)
+            : new CodeVerification(VerificationStatus.CORRECTED, output);
+      }
+      case UNAVAILABLE -> CodeVerification.SKIPPED;
+      default -> new CodeVerification(VerificationStatus.REJECTED, null);
+    };
+  }
+
+  private static String hash(String language, String program) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(language.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      return HexFormat.of().formatHex(digest.digest(program.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
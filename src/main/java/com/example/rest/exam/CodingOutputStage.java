@@ -0,0 +1,18 @@
+package com.example.rest.exam;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(10)
+public class CodingOutputStage implements GradingStage {
+  @Override
+  public GradingVerdict evaluate(GradingCase gradingCase) {
+    if (!ExamAiGenerator.isCodingCategory(gradingCase.category())) {
+      return GradingVerdict.UNDECIDED;
+    }
+    return AnswerText.outputLines(gradingCase.answer()).equals(AnswerText.outputLines(gradingCase.expected()))
+        ? GradingVerdict.CORRECT
+        : GradingVerdict.WRONG;
+  }
+}
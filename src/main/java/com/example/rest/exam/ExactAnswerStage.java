@@ -0,0 +1,18 @@
+package com.example.rest.exam;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(0)
+public class ExactAnswerStage implements GradingStage {
+  @Override
+  public GradingVerdict evaluate(GradingCase gradingCase) {
+    if (gradingCase.expected() == null || gradingCase.expected().isBlank()) {
+      return GradingVerdict.WRONG;
+    }
+    return AnswerText.sameIgnoringLineEndings(gradingCase.answer(), gradingCase.expected())
+        ? GradingVerdict.CORRECT
+        : GradingVerdict.UNDECIDED;
+  }
+}
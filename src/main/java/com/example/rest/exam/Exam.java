@@ -5,11 +5,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
+import java.time.Instant;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "exam")
+@Table(name = "exam", indexes = {
+  @Index(name = "idx_exam_category", columnList = "category")
+})
 public class Exam {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +31,10 @@ public class Exam {
   @Column(name = "answer_text", columnDefinition = "LONGTEXT")
   private String answerText;
 
+  @UpdateTimestamp
+  @Column(name = "updated_at", columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)")
+  private Instant updatedAt;
+
   public Exam() {
   }
 
@@ -60,4 +69,12 @@ public class Exam {
   public void setAnswerText(String answerText) {
     this.answerText = answerText;
   }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
 }
@@ -2,6 +2,8 @@ package com.example.rest.exam;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -25,9 +27,15 @@ public class ExamAi {
   @JoinColumn(name = "source_exam_id")
   private Exam sourceExam;
 
+  @Column(name = "user_id")
+  private Long userId;
+
   @Column(nullable = false, length = 20)
   private String category;
 
+  @Column(name = "job_id", length = 36)
+  private String jobId;
+
   @Lob
   @Column(name = "question_text", columnDefinition = "LONGTEXT")
   private String questionText;
@@ -36,6 +44,13 @@ public class ExamAi {
   @Column(name = "answer_text", columnDefinition = "LONGTEXT")
   private String answerText;
 
+  @Column(name = "answer_aliases", length = 1000)
+  private String answerAliases;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20)
+  private VerificationStatus verification;
+
   @Lob
   @Column(name = "explanation", columnDefinition = "LONGTEXT")
   private String explanation;
@@ -77,6 +92,14 @@ public class ExamAi {
     this.sourceExam = sourceExam;
   }
 
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
   public String getCategory() {
     return category;
   }
@@ -85,6 +108,14 @@ public class ExamAi {
     this.category = category;
   }
 
+  public String getJobId() {
+    return jobId;
+  }
+
+  public void setJobId(String jobId) {
+    this.jobId = jobId;
+  }
+
   public String getQuestionText() {
     return questionText;
   }
@@ -101,6 +132,22 @@ public class ExamAi {
     this.answerText = answerText;
   }
 
+  public String getAnswerAliases() {
+    return answerAliases;
+  }
+
+  public void setAnswerAliases(String answerAliases) {
+    this.answerAliases = answerAliases;
+  }
+
+  public VerificationStatus getVerification() {
+    return verification;
+  }
+
+  public void setVerification(VerificationStatus verification) {
+    this.verification = verification;
+  }
+
   public String getExplanation() {
     return explanation;
   }
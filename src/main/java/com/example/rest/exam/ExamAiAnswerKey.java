@@ -0,0 +1,13 @@
+package com.example.rest.exam;
+
+public interface ExamAiAnswerKey {
+	Long getId();
+
+	String getCategory();
+
+	String getAnswerText();
+
+	String getAnswerAliases();
+
+	VerificationStatus getVerification();
+}
@@ -1,46 +1,169 @@
 package com.example.rest.exam;
 
+import com.example.rest.auth.AuthenticatedUser;
+import com.example.rest.exam.dto.ExamAiJobResponse;
+import com.example.rest.exam.dto.ExamStatsResponse;
 import com.example.rest.exam.dto.GenerateExamRequest;
 import com.example.rest.exam.dto.GenerateExamResponse;
 import com.example.rest.exam.dto.GradeExamRequest;
 import com.example.rest.exam.dto.GradeExamResponse;
 import com.example.rest.exam.dto.StartExamRequest;
 import com.example.rest.exam.dto.StartExamResponse;
+import com.example.rest.exam.dto.WrongNoteItem;
 import com.example.rest.exam.dto.WrongNoteResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 @RestController
 @RequestMapping("/api/exam-ai")
 public class ExamAiController {
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
   private final ExamAiService examAiService;
+  private final ExamAiJobService examAiJobService;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.exam-ai.stream-timeout-ms:180000}")
+  private long streamTimeoutMs;
 
-  public ExamAiController(ExamAiService examAiService) {
+  public ExamAiController(
+      ExamAiService examAiService,
+      ExamAiJobService examAiJobService,
+      ObjectMapper objectMapper
+  ) {
     this.examAiService = examAiService;
+    this.examAiJobService = examAiJobService;
+    this.objectMapper = objectMapper;
   }
 
   @PostMapping("/generate")
-  public ResponseEntity<GenerateExamResponse> generate(@RequestBody GenerateExamRequest request) {
-    return ResponseEntity.ok(examAiService.generate(request));
+  public ResponseEntity<GenerateExamResponse> generate(
+      @AuthenticationPrincipal AuthenticatedUser user,
+      @RequestBody GenerateExamRequest request
+  ) {
+    return ResponseEntity.ok(examAiService.generate(request, user.id()));
+  }
+
+  @PostMapping("/jobs")
+  public ResponseEntity<ExamAiJobResponse> submitJob(
+      @AuthenticationPrincipal AuthenticatedUser user,
+      @RequestBody GenerateExamRequest request
+  ) {
+    return ResponseEntity.accepted().body(examAiJobService.submit(request, user.id()));
+  }
+
+  @GetMapping("/jobs/{id}")
+  public CompletableFuture<ResponseEntity<ExamAiJobResponse>> getJob(
+      @AuthenticationPrincipal AuthenticatedUser user,
+      @PathVariable String id,
+      @RequestParam(required = false) Long waitMs
+  ) {
+    return examAiJobService.getJob(id, waitMs, user.id()).thenApply(ResponseEntity::ok);
   }
 
   @PostMapping("/session")
-  public ResponseEntity<StartExamResponse> startSession(@RequestBody StartExamRequest request) {
-    return ResponseEntity.ok(examAiService.startSession(request));
+  public ResponseEntity<StartExamResponse> startSession(
+      @AuthenticationPrincipal AuthenticatedUser user,
+      @RequestBody StartExamRequest request
+  ) {
+    return ResponseEntity.ok(examAiService.startSession(request, user.id()));
+  }
+
+  @PostMapping(value = "/session/stream", produces = "application/x-ndjson")
+  public ResponseEntity<ResponseBodyEmitter> startSessionStream(
+      @AuthenticationPrincipal AuthenticatedUser user,
+      @RequestBody StartExamRequest request
+  ) {
+    ResponseBodyEmitter emitter = new ResponseBodyEmitter(streamTimeoutMs);
+    AtomicBoolean started = new AtomicBoolean(false);
+    CompletableFuture<Void> generation = examAiService.startSessionStream(request, user.id(), item -> {
+      started.set(true);
+      writeLine(emitter, item);
+    });
+
+    emitter.onTimeout(() -> generation.cancel(true));
+    emitter.onError(ex -> generation.cancel(true));
+    generation.whenComplete((ignored, ex) -> {
+      if (ex == null) {
+        emitter.complete();
+        return;
+      }
+      if (generation.isCancelled()) {
+        return;
+      }
+      Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+      if (!started.get()) {
+        emitter.completeWithError(cause);
+        return;
+      }
+      try {
+        writeLine(emitter, Map.of("message", String.valueOf(cause.getMessage())));
+        emitter.complete();
+      } catch (UncheckedIOException writeEx) {
+        emitter.completeWithError(writeEx);
+      }
+    });
+    return ResponseEntity.ok().contentType(NDJSON).body(emitter);
   }
 
   @PostMapping("/grade")
-  public ResponseEntity<GradeExamResponse> grade(@RequestBody GradeExamRequest request) {
-    return ResponseEntity.ok(examAiService.grade(request));
+  public ResponseEntity<GradeExamResponse> grade(
+      @AuthenticationPrincipal AuthenticatedUser user,
+      @RequestBody GradeExamRequest request
+  ) {
+    return ResponseEntity.ok(examAiService.grade(request, user.id()));
   }
 
   @GetMapping("/wrong")
-  public ResponseEntity<WrongNoteResponse> wrongNotes(@RequestParam(required = false) String category) {
-    return ResponseEntity.ok(examAiService.getWrongNotes(category));
+  public ResponseEntity<WrongNoteResponse> wrongNotes(
+      @AuthenticationPrincipal AuthenticatedUser user,
+      @RequestParam(required = false) String category,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(defaultValue = "false") boolean summary
+  ) {
+    return ResponseEntity.ok(examAiService.getWrongNotes(category, cursor, size, summary, user.id()));
+  }
+
+  @GetMapping("/stats")
+  public ResponseEntity<ExamStatsResponse> stats(@AuthenticationPrincipal AuthenticatedUser user) {
+    return ResponseEntity.ok(examAiService.getStats(user.id()));
+  }
+
+  @GetMapping("/wrong/{id}")
+  public ResponseEntity<WrongNoteItem> wrongNote(
+      @AuthenticationPrincipal AuthenticatedUser user,
+      @PathVariable Long id
+  ) {
+    return ResponseEntity.ok(examAiService.getWrongNote(id, user.id()));
+  }
+
+  private void writeLine(ResponseBodyEmitter emitter, Object value) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(value);
+      byte[] line = Arrays.copyOf(json, json.length + 1);
+      line[json.length] = '\n';
+      emitter.send(line);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
   }
 }
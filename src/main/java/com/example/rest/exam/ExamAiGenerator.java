@@ -0,0 +1,213 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExamAiGenerator {
+  private static final int EXAMPLE_COUNT = 6;
+  private static final int STREAM_SPARE_ITEMS = 2;
+  private static final Map<String, Object> ITEM_SCHEMA = JsonSchemas.arrayOf(
+      List.of("category", "question_text", "answer_text", "explanation"),
+      Map.entry("category", "string"),
+      Map.entry("question_text", "string"),
+      Map.entry("answer_text", "string"),
+      Map.entry("explanation", "string"),
+      Map.entry("answer_aliases", "string")
+  );
+  private static final String GENERAL_SYSTEM = """
+      너는 정보처리기사 스타일의 문제를 생성하는 AI다.
+      아래 예시는 스타일 참고용이며 문장을 복사하지 마라.
+      출력은 JSON 배열만 반환하고, 각 항목은 다음 키를 가진다: category, question_text, answer_text, explanation, answer_aliases.
+      explanation은 한 줄로 간단히 무조건 한국어로만 작성한다.
+      answer_aliases에는 정답으로 인정할 다른 표현을 '|'로 구분해 작성하고, 없으면 빈 문자열로 둔다.
+      동일한 내용이나 문구를 반복하지 말 것.
+
+      응답은 JSON 배열만 출력한다. 다른 텍스트는 절대 포함하지 마라.
+      예시 형식: [{"category":"Theory","question_text":"...","answer_text":"...","explanation":"...","answer_aliases":"..."}]
+      """;
+  private static final String CODING_SYSTEM = """
+      너는 정보처리기사 스타일의 코딩 문제를 생성하는 AI다.
+      각 문제는 코드가 포함되어야 하고, 질문은 반드시 출력 결과를 묻는 형태여야 한다.
+      question_text의 코드는 ```로 감싼 코드 블록 하나로 작성한다.
+      answer_text는 코드 실행 시 정확한 출력만 작성한다.
+      출력은 JSON 배열만 반환하고, 각 항목은 다음 키를 가진다: category, question_text, answer_text, explanation.
+      explanation은 한 줄로 간단히 무조건 한국어로만 작성한다.
+      문장을 복사하지 말고 새로운 문제를 만들 것.
+
+      응답은 JSON 배열만 출력한다. 다른 텍스트는 절대 포함하지 마라.
+      예시 형식: [{"category":"C","question_text":"...","answer_text":"...","explanation":"..."}]
+      """;
+  private static final String THEORY_SYSTEM = """
+      너는 정보처리기사 스타일의 이론 문제를 생성하는 AI다.
+      정의나 설명을 주고 무엇인지 맞히는 문제를 만든다.
+      서브넷 마스크 계산처럼 간단한 계산형 문제도 포함 가능하다.
+      출력은 JSON 배열만 반환하고, 각 항목은 다음 키를 가진다: category, question_text, answer_text, explanation, answer_aliases.
+      explanation은 한 줄로 간단히 무조건 한국어로만 작성한다.
+      answer_aliases에는 정답으로 인정할 다른 표현을 '|'로 구분해 작성하고, 없으면 빈 문자열로 둔다.
+      문장을 복사하지 말고 새로운 문제를 만들 것.
+
+      응답은 JSON 배열만 출력한다. 다른 텍스트는 절대 포함하지 마라.
+      예시 형식: [{"category":"Theory","question_text":"...","answer_text":"...","explanation":"...","answer_aliases":"..."}]
+      """;
+
+  private final ExamExampleCache exampleCache;
+  private final OllamaClient ollamaClient;
+  private final ObjectMapper objectMapper;
+  private final GeneratedItemJsonParser itemParser;
+
+  public ExamAiGenerator(
+      ExamExampleCache exampleCache,
+      OllamaClient ollamaClient,
+      ObjectMapper objectMapper
+  ) {
+    this.exampleCache = exampleCache;
+    this.ollamaClient = ollamaClient;
+    this.objectMapper = objectMapper;
+    this.itemParser = new GeneratedItemJsonParser(objectMapper);
+  }
+
+  public GeneratedBatch generate(String category, int count) {
+    List<ExamExample> examples = exampleCache.sample(category, EXAMPLE_COUNT);
+    if (examples.isEmpty()) {
+      throw new IllegalStateException("예시 문제를 찾을 수 없습니다.");
+    }
+
+    OllamaPrompt prompt = buildPrompt(examples, category, count);
+    String responseText = ollamaClient.generate(prompt, ITEM_SCHEMA, OllamaPriority.GENERATE);
+    return new GeneratedBatch(parseItems(responseText), examples.get(0).category());
+  }
+
+  public GeneratedBatch generateSession(String category, int count, OllamaPriority priority) {
+    List<ExamExample> examples = findExamples(category);
+    if (examples.isEmpty()) {
+      throw new IllegalStateException("예시 문제를 찾을 수 없습니다.");
+    }
+
+    OllamaPrompt prompt = isCodingCategory(category)
+        ? buildCodingPrompt(examples, category, count)
+        : buildTheoryPrompt(examples, category, count);
+    String responseText = ollamaClient.generate(prompt, ITEM_SCHEMA, priority);
+    List<GeneratedExamItem> items = parseItems(responseText);
+    if (items.size() > count) {
+      items = items.subList(0, count);
+    }
+    return new GeneratedBatch(items, examples.get(0).category());
+  }
+
+  public CompletableFuture<Void> generateSessionStream(
+      String category,
+      int count,
+      Executor itemExecutor,
+      Predicate<GeneratedBatch> onItem
+  ) {
+    List<ExamExample> examples = findExamples(category);
+    if (examples.isEmpty()) {
+      throw new IllegalStateException("예시 문제를 찾을 수 없습니다.");
+    }
+
+    int requested = count + STREAM_SPARE_ITEMS;
+    OllamaPrompt prompt = isCodingCategory(category)
+        ? buildCodingPrompt(examples, category, requested)
+        : buildTheoryPrompt(examples, category, requested);
+    String exampleCategory = examples.get(0).category();
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    AtomicBoolean satisfied = new AtomicBoolean(false);
+    AtomicReference<CompletableFuture<Void>> pending = new AtomicReference<>(CompletableFuture.completedFuture(null));
+    StreamingItemParser parser = new StreamingItemParser(objectMapper, item -> pending.set(pending.get().thenRunAsync(() -> {
+      if (!result.isDone() && !satisfied.get() && !onItem.test(new GeneratedBatch(List.of(item), exampleCategory))) {
+        satisfied.set(true);
+      }
+    }, itemExecutor)));
+
+    CompletableFuture<Void> stream = ollamaClient.generateStreamAsync(prompt, ITEM_SCHEMA, OllamaPriority.SESSION, token -> {
+      parser.feed(token);
+      return !satisfied.get() && !pending.get().isCompletedExceptionally();
+    });
+    result.whenComplete((ignored, ex) -> stream.cancel(true));
+    stream.thenCompose(ignored -> pending.get()).whenComplete((ignored, ex) -> {
+      if (ex != null) {
+        result.completeExceptionally(ex);
+      } else {
+        result.complete(null);
+      }
+    });
+    return result;
+  }
+
+  static boolean isCodingCategory(String category) {
+    if (category == null) {
+      return false;
+    }
+    String value = category.trim().toLowerCase();
+    return value.equals("c") || value.equals("java") || value.equals("python");
+  }
+
+  private List<ExamExample> findExamples(String category) {
+    if (category != null) {
+      List<ExamExample> examples = exampleCache.sample(category, EXAMPLE_COUNT);
+      if (!examples.isEmpty()) {
+        return examples;
+      }
+    }
+    return exampleCache.sample(null, EXAMPLE_COUNT);
+  }
+
+  OllamaPrompt buildPrompt(List<ExamExample> examples, String category, int count) {
+    StringBuilder builder = new StringBuilder();
+    if (category != null) {
+      builder.append("요청 카테고리: ").append(category).append("\n\n");
+    } else {
+      builder.append("카테고리는 자유롭게 선택 가능.\n\n");
+    }
+    appendExamples(builder, examples);
+    builder.append("생성 개수: ").append(count).append("\n");
+    builder.append("반드시 ").append(count).append("개 항목을 출력한다.\n");
+    builder.append("JSON 배열만 출력하라.\n");
+    return new OllamaPrompt(GENERAL_SYSTEM, builder.toString());
+  }
+
+  OllamaPrompt buildCodingPrompt(List<ExamExample> examples, String category, int count) {
+    String language = category == null ? "C/Java/Python" : category;
+    StringBuilder builder = new StringBuilder();
+    builder.append("언어는 ").append(language).append(" 이다.\n\n");
+    appendExamples(builder, examples);
+    builder.append("생성 개수: ").append(count).append("\n");
+    builder.append("반드시 ").append(count).append("개 항목을 출력한다.\n");
+    builder.append("question_text에는 코드와 함께 '출력 결과를 작성하시오.'를 포함하라.\n");
+    builder.append("JSON 배열만 출력하라.\n");
+    return new OllamaPrompt(CODING_SYSTEM, builder.toString());
+  }
+
+  OllamaPrompt buildTheoryPrompt(List<ExamExample> examples, String category, int count) {
+    StringBuilder builder = new StringBuilder();
+    if (category != null) {
+      builder.append("요청 카테고리: ").append(category).append("\n\n");
+    }
+    appendExamples(builder, examples);
+    builder.append("생성 개수: ").append(count).append("\n");
+    builder.append("반드시 ").append(count).append("개 항목을 출력한다.\n");
+    builder.append("JSON 배열만 출력하라.\n");
+    return new OllamaPrompt(THEORY_SYSTEM, builder.toString());
+  }
+
+  private static void appendExamples(StringBuilder builder, List<ExamExample> examples) {
+    builder.append("[예시]\n");
+    for (ExamExample example : examples) {
+      builder.append(example.promptLine());
+    }
+    builder.append("\n");
+  }
+
+  List<GeneratedExamItem> parseItems(String text) {
+    return itemParser.parse(text);
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.rest.exam;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ExamAiJobRepository extends JpaRepository<ExamAiJob, String> {
+	List<ExamAiJob> findTop50ByStatusOrderByCreatedAtAsc(ExamAiJobStatus status);
+
+	long countByStatus(ExamAiJobStatus status);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE ExamAiJob j SET j.status = com.example.rest.exam.ExamAiJobStatus.RUNNING, j.startedAt = :now WHERE j.id = :id AND j.status = com.example.rest.exam.ExamAiJobStatus.PENDING")
+	int claim(@Param("id") String id, @Param("now") Instant now);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE ExamAiJob j SET j.status = com.example.rest.exam.ExamAiJobStatus.PENDING, j.startedAt = NULL WHERE j.id = :id AND j.status = com.example.rest.exam.ExamAiJobStatus.RUNNING")
+	int release(@Param("id") String id);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE ExamAiJob j SET j.status = com.example.rest.exam.ExamAiJobStatus.PENDING, j.startedAt = NULL WHERE j.status = com.example.rest.exam.ExamAiJobStatus.RUNNING AND j.startedAt < :cutoff")
+	int resetStale(@Param("cutoff") Instant cutoff);
+}
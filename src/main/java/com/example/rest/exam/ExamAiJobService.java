@@ -0,0 +1,241 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.ExamAiJobItem;
+import com.example.rest.exam.dto.ExamAiJobResponse;
+import com.example.rest.exam.dto.GenerateExamRequest;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class ExamAiJobService {
+  private static final Logger logger = LoggerFactory.getLogger(ExamAiJobService.class);
+  private static final long MAX_WAIT_MS = 30000;
+
+  private final ExamAiJobRepository jobRepository;
+  private final ExamAiRepository examAiRepository;
+  private final ExamAiService examAiService;
+  private final long maxPending;
+  private final long sweepIntervalMs;
+  private final long staleAfterMs;
+  private final ThreadPoolExecutor workers;
+  private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "exam-ai-job-sweeper");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final Set<String> queued = ConcurrentHashMap.newKeySet();
+  private final ConcurrentHashMap<String, CompletableFuture<Void>> completions = new ConcurrentHashMap<>();
+
+  public ExamAiJobService(
+      ExamAiJobRepository jobRepository,
+      ExamAiRepository examAiRepository,
+      ExamAiService examAiService,
+      @Value("${app.exam-ai.jobs.workers:2}") int workerCount,
+      @Value("${app.exam-ai.jobs.queue-capacity:50}") int queueCapacity,
+      @Value("${app.exam-ai.jobs.max-pending:500}") long maxPending,
+      @Value("${app.exam-ai.jobs.sweep-interval-ms:10000}") long sweepIntervalMs,
+      @Value("${app.exam-ai.jobs.stale-after-ms:900000}") long staleAfterMs
+  ) {
+    this.jobRepository = jobRepository;
+    this.examAiRepository = examAiRepository;
+    this.examAiService = examAiService;
+    this.maxPending = maxPending;
+    this.sweepIntervalMs = Math.max(1000, sweepIntervalMs);
+    this.staleAfterMs = Math.max(60000, staleAfterMs);
+    AtomicInteger threadCount = new AtomicInteger();
+    this.workers = new ThreadPoolExecutor(
+        Math.max(1, workerCount),
+        Math.max(1, workerCount),
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+        runnable -> {
+          Thread thread = new Thread(runnable, "exam-ai-job-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+    );
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    sweeper.scheduleWithFixedDelay(this::sweep, 0, sweepIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    sweeper.shutdownNow();
+    workers.shutdownNow();
+  }
+
+  public ExamAiJobResponse submit(GenerateExamRequest request, Long userId) {
+    if (jobRepository.countByStatus(ExamAiJobStatus.PENDING) >= maxPending) {
+      throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "대기 중인 생성 작업이 너무 많습니다.");
+    }
+
+    ExamAiJob job = new ExamAiJob();
+    job.setId(UUID.randomUUID().toString());
+    job.setUserId(userId);
+    job.setCategory(examAiService.normalizeCategory(request.category()));
+    job.setItemCount(examAiService.normalizeCount(request.count()));
+    job = jobRepository.save(job);
+
+    enqueue(job.getId());
+    return toResponse(job, List.of());
+  }
+
+  public CompletableFuture<ExamAiJobResponse> getJob(String id, Long waitMs, Long userId) {
+    ExamAiJob job = findJob(id);
+    if (!Objects.equals(job.getUserId(), userId)) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "생성 작업을 찾을 수 없습니다.");
+    }
+    if (job.getStatus().isFinished() || waitMs == null || waitMs <= 0) {
+      return CompletableFuture.completedFuture(toResponse(job));
+    }
+
+    CompletableFuture<Void> completion = completions.computeIfAbsent(id, key -> new CompletableFuture<>());
+    ExamAiJob latest = findJob(id);
+    if (latest.getStatus().isFinished()) {
+      completions.remove(id, completion);
+      return CompletableFuture.completedFuture(toResponse(latest));
+    }
+    return completion.copy()
+        .completeOnTimeout(null, Math.min(waitMs, MAX_WAIT_MS), TimeUnit.MILLISECONDS)
+        .thenApply(ignored -> toResponse(findJob(id)));
+  }
+
+  private void sweep() {
+    try {
+      int reset = jobRepository.resetStale(Instant.now().minusMillis(staleAfterMs));
+      if (reset > 0) {
+        logger.info("Re-queued {} generation jobs that stopped running.", reset);
+      }
+      int free = workers.getQueue().remainingCapacity();
+      if (free <= 0) {
+        return;
+      }
+      for (ExamAiJob job : jobRepository.findTop50ByStatusOrderByCreatedAtAsc(ExamAiJobStatus.PENDING)) {
+        if (free-- <= 0) {
+          break;
+        }
+        enqueue(job.getId());
+      }
+    } catch (RuntimeException ex) {
+      logger.warn("Generation job sweep failed: {}", ex.getMessage());
+    }
+  }
+
+  private void enqueue(String jobId) {
+    if (!queued.add(jobId)) {
+      return;
+    }
+    try {
+      workers.execute(() -> run(jobId));
+    } catch (RejectedExecutionException ex) {
+      queued.remove(jobId);
+    }
+  }
+
+  private void run(String jobId) {
+    boolean finished = true;
+    try {
+      if (jobRepository.claim(jobId, Instant.now()) == 0) {
+        return;
+      }
+      ExamAiJob job = jobRepository.findById(jobId).orElse(null);
+      if (job == null) {
+        return;
+      }
+
+      try {
+        List<ExamAi> saved = examAiService.generateForJob(
+            job.getCategory(), job.getItemCount(), jobId, job.getUserId());
+        job.setSavedCount(saved.size());
+        job.setStatus(saved.isEmpty() ? ExamAiJobStatus.FAILED : ExamAiJobStatus.SUCCEEDED);
+        if (saved.isEmpty()) {
+          job.setError("생성된 문제가 없습니다.");
+        }
+      } catch (OllamaBusyException ex) {
+        jobRepository.release(jobId);
+        finished = false;
+        return;
+      } catch (RuntimeException ex) {
+        job.setStatus(ExamAiJobStatus.FAILED);
+        job.setError(truncate(ex.getMessage()));
+      }
+      job.setFinishedAt(Instant.now());
+      jobRepository.save(job);
+    } finally {
+      queued.remove(jobId);
+      CompletableFuture<Void> completion = finished ? completions.remove(jobId) : null;
+      if (completion != null) {
+        completion.complete(null);
+      }
+    }
+  }
+
+  private ExamAiJob findJob(String id) {
+    return jobRepository.findById(id)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "생성 작업을 찾을 수 없습니다."));
+  }
+
+  private ExamAiJobResponse toResponse(ExamAiJob job) {
+    if (job.getStatus() != ExamAiJobStatus.SUCCEEDED) {
+      return toResponse(job, List.of());
+    }
+    List<ExamAiJobItem> items = new ArrayList<>();
+    for (ExamAi row : examAiRepository.findByJobIdOrderByIdAsc(job.getId())) {
+      items.add(new ExamAiJobItem(
+          row.getId(),
+          row.getCategory(),
+          row.getQuestionText(),
+          row.getAnswerText(),
+          row.getExplanation()
+      ));
+    }
+    return toResponse(job, items);
+  }
+
+  private ExamAiJobResponse toResponse(ExamAiJob job, List<ExamAiJobItem> items) {
+    return new ExamAiJobResponse(
+        job.getId(),
+        job.getStatus().name(),
+        job.getCategory(),
+        job.getItemCount(),
+        job.getSavedCount(),
+        job.getError(),
+        job.getCreatedAt(),
+        job.getFinishedAt(),
+        items
+    );
+  }
+
+  private String truncate(String message) {
+    if (message == null) {
+      return null;
+    }
+    return message.length() <= 500 ? message : message.substring(0, 500);
+  }
+}
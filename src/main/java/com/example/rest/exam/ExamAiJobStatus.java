@@ -0,0 +1,12 @@
+package com.example.rest.exam;
+
+public enum ExamAiJobStatus {
+  PENDING,
+  RUNNING,
+  SUCCEEDED,
+  FAILED;
+
+  public boolean isFinished() {
+    return this == SUCCEEDED || this == FAILED;
+  }
+}
@@ -0,0 +1,201 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExamAiQuestionPool {
+  private static final Logger logger = LoggerFactory.getLogger(ExamAiQuestionPool.class);
+  private static final long VERIFY_TIMEOUT_MS = 60000;
+
+  private final ExamAiGenerator generator;
+  private final OllamaClient ollamaClient;
+  private final CodeVerifier codeVerifier;
+  private final QuestionDuplicateIndex duplicateIndex;
+  private final boolean enabled;
+  private final int lowWatermark;
+  private final int highWatermark;
+  private final int batchSize;
+  private final long refillIntervalMs;
+  private final Map<String, Bucket> buckets = new LinkedHashMap<>();
+  private final AtomicBoolean refillQueued = new AtomicBoolean(false);
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "exam-ai-pool-refill");
+    thread.setDaemon(true);
+    thread.setPriority(Thread.MIN_PRIORITY);
+    return thread;
+  });
+
+  public ExamAiQuestionPool(
+      ExamAiGenerator generator,
+      OllamaClient ollamaClient,
+      CodeVerifier codeVerifier,
+      QuestionDuplicateIndex duplicateIndex,
+      @Value("${app.exam-ai.pool.enabled:true}") boolean enabled,
+      @Value("${app.exam-ai.pool.categories:Theory,C,Java,Python}") List<String> categories,
+      @Value("${app.exam-ai.pool.low-watermark:10}") int lowWatermark,
+      @Value("${app.exam-ai.pool.high-watermark:30}") int highWatermark,
+      @Value("${app.exam-ai.pool.batch-size:5}") int batchSize,
+      @Value("${app.exam-ai.pool.refill-interval-ms:30000}") long refillIntervalMs
+  ) {
+    this.generator = generator;
+    this.ollamaClient = ollamaClient;
+    this.codeVerifier = codeVerifier;
+    this.duplicateIndex = duplicateIndex;
+    this.enabled = enabled;
+    this.lowWatermark = Math.max(0, lowWatermark);
+    this.highWatermark = Math.max(this.lowWatermark + 1, highWatermark);
+    this.batchSize = Math.max(1, batchSize);
+    this.refillIntervalMs = Math.max(1000, refillIntervalMs);
+    for (String category : categories) {
+      if (category != null && !category.isBlank()) {
+        buckets.put(key(category), new Bucket(category.trim()));
+      }
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled || buckets.isEmpty()) {
+      return;
+    }
+    scheduler.scheduleWithFixedDelay(this::refillAll, 0, refillIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdownNow();
+  }
+
+  public List<GeneratedExamItem> take(String category, int count) {
+    Bucket bucket = category == null ? null : buckets.get(key(category));
+    if (!enabled || bucket == null) {
+      return List.of();
+    }
+
+    List<GeneratedExamItem> taken = new ArrayList<>(count);
+    bucket.lock.lock();
+    try {
+      if (bucket.size.get() >= count) {
+        while (taken.size() < count) {
+          taken.add(bucket.items.pollFirst());
+          bucket.size.decrementAndGet();
+        }
+      }
+    } finally {
+      bucket.lock.unlock();
+    }
+
+    if (bucket.size.get() < lowWatermark) {
+      requestRefill();
+    }
+    return taken;
+  }
+
+  public void putBack(String category, List<GeneratedExamItem> items) {
+    Bucket bucket = category == null ? null : buckets.get(key(category));
+    if (!enabled || bucket == null || items.isEmpty()) {
+      return;
+    }
+    bucket.lock.lock();
+    try {
+      bucket.items.addAll(items);
+      bucket.size.addAndGet(items.size());
+    } finally {
+      bucket.lock.unlock();
+    }
+  }
+
+  private void requestRefill() {
+    if (refillQueued.compareAndSet(false, true)) {
+      try {
+        scheduler.execute(this::refillAll);
+      } catch (RuntimeException ex) {
+        refillQueued.set(false);
+      }
+    }
+  }
+
+  private void refillAll() {
+    refillQueued.set(false);
+    for (Bucket bucket : buckets.values()) {
+      if (bucket.size.get() >= lowWatermark) {
+        continue;
+      }
+      while (bucket.size.get() < highWatermark) {
+        if (ollamaClient.hasInteractiveWork() || Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        try {
+          GeneratedBatch batch = generator.generateSession(bucket.category, batchSize, OllamaPriority.REFILL);
+          List<GeneratedExamItem> items = new ArrayList<>(batch.items().size());
+          for (GeneratedExamItem item : batch.items()) {
+            if (isUsable(item) && !duplicateIndex.isDuplicate(bucket.category, item.question_text(), null)) {
+              items.add(item);
+            }
+          }
+          if (ExamAiGenerator.isCodingCategory(bucket.category)) {
+            items = codeVerifier.verifyItems(bucket.category, items, VERIFY_TIMEOUT_MS);
+          }
+          List<GeneratedExamItem> usable = new ArrayList<>(items.size());
+          for (GeneratedExamItem item : items) {
+            if (isUsable(item)) {
+              usable.add(item);
+            }
+          }
+          if (usable.isEmpty()) {
+            break;
+          }
+          bucket.lock.lock();
+          try {
+            bucket.items.addAll(usable);
+            bucket.size.addAndGet(usable.size());
+          } finally {
+            bucket.lock.unlock();
+          }
+        } catch (RuntimeException ex) {
+          logger.warn("Question pool refill failed for {}: {}", bucket.category, ex.getMessage());
+          break;
+        }
+      }
+    }
+  }
+
+  private boolean isUsable(GeneratedExamItem item) {
+    return item.question_text() != null && !item.question_text().isBlank()
+        && item.answer_text() != null && !item.answer_text().isBlank();
+  }
+
+  private static String key(String category) {
+    return category.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static final class Bucket {
+    private final String category;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<GeneratedExamItem> items = new ArrayDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private Bucket(String category) {
+      this.category = category;
+    }
+  }
+}
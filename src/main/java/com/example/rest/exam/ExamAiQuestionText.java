@@ -0,0 +1,11 @@
+package com.example.rest.exam;
+
+public interface ExamAiQuestionText {
+	Long getId();
+
+	Long getUserId();
+
+	String getCategory();
+
+	String getQuestionText();
+}
@@ -1,10 +1,38 @@
 package com.example.rest.exam;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ExamAiRepository extends JpaRepository<ExamAi, Long> {
-	List<ExamAi> findByIsSolvedTrueAndIsCorrectFalse();
+	Optional<ExamAi> findByIdAndUserId(Long id, Long userId);
 
-	List<ExamAi> findByCategoryAndIsSolvedTrueAndIsCorrectFalse(String category);
+	@Query("""
+		SELECT e.id AS id, e.userId AS userId, e.category AS category, e.answerText AS answerText, e.answerAliases AS answerAliases,
+			e.verification AS verification
+		FROM ExamAi e
+		WHERE e.id IN :ids AND e.userId = :userId
+		""")
+	List<ExamAiAnswerKey> findAnswerKeys(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+	List<ExamAiQuestionText> findQuestionTextByIdIn(Collection<Long> ids);
+
+	@Query("SELECT e.id AS id, e.userId AS userId, e.category AS category, e.questionText AS questionText FROM ExamAi e WHERE e.id > :afterId ORDER BY e.id")
+	List<ExamAiQuestionText> findQuestionTextsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+	List<ExamAi> findByJobIdOrderByIdAsc(String jobId);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE ExamAi e SET e.answerText = :answerText, e.verification = :verification WHERE e.id = :id")
+	int updateVerification(
+		@Param("id") Long id,
+		@Param("answerText") String answerText,
+		@Param("verification") VerificationStatus verification);
 }
@@ -1,6 +1,7 @@
 package com.example.rest.exam;
 
 import com.example.rest.exam.dto.ExamAiQuestionItem;
+import com.example.rest.exam.dto.ExamStatsResponse;
 import com.example.rest.exam.dto.GenerateExamRequest;
 import com.example.rest.exam.dto.GenerateExamResponse;
 import com.example.rest.exam.dto.GeneratedExamItem;
@@ -12,109 +13,195 @@ import com.example.rest.exam.dto.StartExamRequest;
 import com.example.rest.exam.dto.StartExamResponse;
 import com.example.rest.exam.dto.WrongNoteItem;
 import com.example.rest.exam.dto.WrongNoteResponse;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import org.springframework.data.domain.PageRequest;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class ExamAiService {
+  private static final Logger logger = LoggerFactory.getLogger(ExamAiService.class);
   private static final int DEFAULT_COUNT = 5;
   private static final int MAX_COUNT = 10;
-  private static final int EXAMPLE_COUNT = 6;
   private static final int SESSION_COUNT = 5;
+  private static final int DEFAULT_WRONG_PAGE_SIZE = 20;
+  private static final int MAX_WRONG_PAGE_SIZE = 100;
+  private static final int MAX_ALIASES_LENGTH = 1000;
 
-  private final ExamRepository examRepository;
   private final ExamAiRepository examAiRepository;
-  private final RestTemplate restTemplate;
-  private final ObjectMapper objectMapper;
-  private final String baseUrl;
-  private final String model;
+  private final ExamAttemptRepository attemptRepository;
+  private final ExamAttemptWriter attemptWriter;
+  private final AnswerGrader answerGrader;
+  private final CodeVerifier codeVerifier;
+  private final ExamAiGenerator generator;
+  private final ExamAiQuestionPool questionPool;
+  private final GenerationCoalescer coalescer;
+  private final QuestionDuplicateIndex duplicateIndex;
+  private final long verifyWaitMs;
+  private final ExecutorService streamExecutor;
 
   public ExamAiService(
-      ExamRepository examRepository,
       ExamAiRepository examAiRepository,
-      RestTemplateBuilder restTemplateBuilder,
-      ObjectMapper objectMapper,
-      @Value("${app.ollama.base-url}") String baseUrl,
-      @Value("${app.ollama.model}") String model
+      ExamAttemptRepository attemptRepository,
+      ExamAttemptWriter attemptWriter,
+      AnswerGrader answerGrader,
+      CodeVerifier codeVerifier,
+      ExamAiGenerator generator,
+      ExamAiQuestionPool questionPool,
+      GenerationCoalescer coalescer,
+      QuestionDuplicateIndex duplicateIndex,
+      @Value("${app.exam-ai.verify.serve-wait-ms:8000}") long verifyWaitMs,
+      @Value("${app.exam-ai.stream-workers:4}") int streamWorkers
   ) {
-    this.examRepository = examRepository;
     this.examAiRepository = examAiRepository;
-    this.restTemplate = restTemplateBuilder.build();
-    this.objectMapper = objectMapper;
-    this.baseUrl = baseUrl;
-    this.model = model;
+    this.attemptRepository = attemptRepository;
+    this.attemptWriter = attemptWriter;
+    this.answerGrader = answerGrader;
+    this.codeVerifier = codeVerifier;
+    this.generator = generator;
+    this.questionPool = questionPool;
+    this.coalescer = coalescer;
+    this.duplicateIndex = duplicateIndex;
+    this.verifyWaitMs = Math.max(0, verifyWaitMs);
+    AtomicInteger threadCount = new AtomicInteger();
+    this.streamExecutor = Executors.newFixedThreadPool(Math.max(1, streamWorkers), runnable -> {
+      Thread thread = new Thread(runnable, "exam-ai-stream-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PreDestroy
+  public void stop() {
+    streamExecutor.shutdownNow();
   }
 
-  public GenerateExamResponse generate(GenerateExamRequest request) {
+  public GenerateExamResponse generate(GenerateExamRequest request, Long userId) {
     String category = normalizeCategory(request.category());
     int count = normalizeCount(request.count());
     boolean save = request.save() != null && request.save();
 
-    List<Exam> examples = examRepository.findRandomByCategory(category, PageRequest.of(0, EXAMPLE_COUNT));
-    if (examples.isEmpty()) {
-      throw new IllegalStateException("예시 문제를 찾을 수 없습니다.");
-    }
-
-    String prompt = buildPrompt(examples, category, count);
-    String responseText = callOllama(prompt);
-    List<GeneratedExamItem> items = parseItems(responseText);
+    GeneratedBatch batch = coalescer.execute("generate", category, count,
+        () -> generator.generate(category, count));
+    List<GeneratedExamItem> items = batch.items();
 
     if (save && !items.isEmpty()) {
-      saveItems(items, category, examples.get(0).getCategory());
+      saveItems(items, category, batch.exampleCategory(), userId);
     }
 
     return new GenerateExamResponse(items);
   }
 
-  public StartExamResponse startSession(StartExamRequest request) {
+  public List<ExamAi> generateForJob(String category, int count, String jobId, Long userId) {
+    GeneratedBatch batch = generator.generate(category, count);
+    return saveItems(batch.items(), category, batch.exampleCategory(), userId, jobId);
+  }
+
+  public StartExamResponse startSession(StartExamRequest request, Long userId) {
     String category = normalizeCategory(request.category());
-    boolean coding = isCodingCategory(category);
     int count = SESSION_COUNT;
 
-    List<Exam> examples = findExamples(category);
-    if (examples.isEmpty()) {
-      throw new IllegalStateException("예시 문제를 찾을 수 없습니다.");
-    }
-
-    String prompt = coding
-        ? buildCodingPrompt(examples, category, count)
-        : buildTheoryPrompt(examples, category, count);
-    String responseText = callOllama(prompt);
-    List<GeneratedExamItem> items = parseItems(responseText);
-    if (items.size() > count) {
-      items = items.subList(0, count);
+    List<ExamAi> saved = new ArrayList<>(saveFromPool(questionPool.take(category, count), category, userId));
+    int missing = count - saved.size();
+    if (missing > 0) {
+      try {
+        GeneratedBatch batch = coalescer.execute("session", category, missing,
+            () -> generator.generateSession(category, missing, OllamaPriority.SESSION));
+        saved.addAll(saveItems(batch.items(), category, batch.exampleCategory(), userId));
+      } catch (RuntimeException ex) {
+        if (saved.isEmpty()) {
+          throw ex;
+        }
+        logger.warn("Could not top up exam session for {}: {}", category, ex.getMessage());
+      }
     }
 
-    if (items.isEmpty()) {
+    if (saved.isEmpty()) {
       throw new IllegalStateException("생성된 문제가 없습니다.");
     }
 
-    List<ExamAi> saved = saveItems(items, category, examples.get(0).getCategory());
     List<ExamAiQuestionItem> responseItems = new ArrayList<>();
     for (ExamAi examAi : saved) {
-      responseItems.add(new ExamAiQuestionItem(
-          examAi.getId(),
-          examAi.getCategory(),
-          examAi.getQuestionText()
-      ));
+      responseItems.add(toQuestionItem(examAi));
     }
 
     return new StartExamResponse(responseItems);
   }
 
-  public GradeExamResponse grade(GradeExamRequest request) {
+  public CompletableFuture<Void> startSessionStream(
+      StartExamRequest request,
+      Long userId,
+      Consumer<ExamAiQuestionItem> sink
+  ) {
+    String category = normalizeCategory(request.category());
+    int count = SESSION_COUNT;
+
+    List<ExamAi> pooled = saveFromPool(questionPool.take(category, count), category, userId);
+    for (ExamAi examAi : pooled) {
+      sink.accept(toQuestionItem(examAi));
+    }
+    int missing = count - pooled.size();
+    if (missing <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    AtomicInteger sent = new AtomicInteger(pooled.size());
+    CompletableFuture<Void> generation;
+    try {
+      generation = generator.generateSessionStream(category, missing, streamExecutor, batch -> {
+        for (ExamAi examAi : saveItems(batch.items(), category, batch.exampleCategory(), userId)) {
+          sink.accept(toQuestionItem(examAi));
+          sent.incrementAndGet();
+        }
+        return sent.get() < count;
+      });
+    } catch (RuntimeException ex) {
+      if (pooled.isEmpty()) {
+        throw ex;
+      }
+      logger.warn("Could not top up exam session for {}: {}", category, ex.getMessage());
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletableFuture<Void> result = generation.handle((ignored, ex) -> {
+      if (ex != null && pooled.isEmpty()) {
+        throw ex instanceof CompletionException completion ? completion : new CompletionException(ex);
+      }
+      if (ex != null) {
+        logger.warn("Could not top up exam session for {}: {}", category, ex.getMessage());
+      }
+      if (sent.get() == 0) {
+        throw new IllegalStateException("생성된 문제가 없습니다.");
+      }
+      return null;
+    });
+    result.whenComplete((ignored, ex) -> generation.cancel(true));
+    return result;
+  }
+
+  public GradeExamResponse grade(GradeExamRequest request, Long userId) {
     if (request.answers() == null || request.answers().isEmpty()) {
       throw new IllegalStateException("제출할 답안이 없습니다.");
     }
@@ -126,306 +213,197 @@ public class ExamAiService {
       }
     }
 
-    List<ExamAi> rows = examAiRepository.findAllById(ids);
-    Map<Long, ExamAi> rowMap = new HashMap<>();
-    for (ExamAi row : rows) {
-      rowMap.put(row.getId(), row);
+    Map<Long, ExamAiAnswerKey> answerKeys = new HashMap<>();
+    for (ExamAiAnswerKey key : examAiRepository.findAnswerKeys(ids, userId)) {
+      answerKeys.put(key.getId(), key);
     }
 
-    List<ExamAi> toSave = new ArrayList<>();
-    List<GradeExamItem> resultItems = new ArrayList<>();
-
+    List<GradingCase> cases = new ArrayList<>();
+    List<GradeExamItem> withdrawn = new ArrayList<>();
     for (GradeExamAnswer answer : request.answers()) {
-      ExamAi row = rowMap.get(answer.id());
-      if (row == null) {
+      ExamAiAnswerKey key = answerKeys.get(answer.id());
+      if (key == null) {
         continue;
       }
-
-      String userAnswer = normalizeAnswer(answer.user_answer());
-      if (userAnswer.isBlank()) {
+      if (answer.user_answer() == null || answer.user_answer().isBlank()) {
         throw new IllegalStateException("답을 채워주세요.");
       }
+      if (key.getVerification() == VerificationStatus.REJECTED) {
+        withdrawn.add(new GradeExamItem(key.getId(), false, answer.user_answer(), null, true));
+        continue;
+      }
+      cases.add(new GradingCase(
+          key.getId(),
+          key.getCategory(),
+          key.getAnswerText(),
+          key.getAnswerAliases(),
+          answer.user_answer()
+      ));
+    }
 
-      String expected = normalizeAnswer(row.getAnswerText());
-      boolean correct = userAnswer.equals(expected);
-
-      row.setUserAnswer(answer.user_answer());
-      row.setSolved(true);
-      row.setCorrect(correct);
-      toSave.add(row);
+    boolean[] verdicts = answerGrader.grade(cases);
+    Instant attemptedAt = Instant.now();
+    List<ExamAttempt> attempts = new ArrayList<>();
+    List<GradeExamItem> resultItems = new ArrayList<>();
+    for (int i = 0; i < cases.size(); i++) {
+      GradingCase gradingCase = cases.get(i);
+      ExamAttempt attempt = new ExamAttempt();
+      attempt.setExamAiId(gradingCase.id());
+      attempt.setUserId(userId);
+      attempt.setCategory(gradingCase.category());
+      attempt.setUserAnswer(gradingCase.answer());
+      attempt.setCorrect(verdicts[i]);
+      attempt.setAttemptedAt(attemptedAt);
+      attempts.add(attempt);
 
       resultItems.add(new GradeExamItem(
-          row.getId(),
-          correct,
-          answer.user_answer(),
-          row.getAnswerText()
+          gradingCase.id(),
+          verdicts[i],
+          gradingCase.answer(),
+          gradingCase.expected(),
+          false
       ));
     }
+    resultItems.addAll(withdrawn);
 
-    if (!toSave.isEmpty()) {
-      examAiRepository.saveAll(toSave);
-    }
-
+    attemptWriter.insertAll(attempts);
     return new GradeExamResponse(resultItems);
   }
 
-  public WrongNoteResponse getWrongNotes(String category) {
+  public WrongNoteResponse getWrongNotes(
+      String category,
+      String cursor,
+      Integer size,
+      boolean summary,
+      Long userId
+  ) {
     String normalizedCategory = normalizeCategory(category);
-    List<ExamAi> rows = normalizedCategory == null
-        ? examAiRepository.findByIsSolvedTrueAndIsCorrectFalse()
-        : examAiRepository.findByCategoryAndIsSolvedTrueAndIsCorrectFalse(normalizedCategory);
-
-    List<WrongNoteItem> items = new ArrayList<>();
-    for (ExamAi row : rows) {
-      items.add(new WrongNoteItem(
-          row.getId(),
-          row.getCategory(),
-          row.getQuestionText(),
-          row.getAnswerText(),
-          row.getUserAnswer(),
-          row.getExplanation()
-      ));
+    int pageSize = size == null || size < 1 ? DEFAULT_WRONG_PAGE_SIZE : Math.min(size, MAX_WRONG_PAGE_SIZE);
+    Long beforeId = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+
+    PageRequest page = PageRequest.of(0, pageSize + 1);
+    List<WrongNoteItem> rows = summary
+        ? attemptRepository.findWrongNoteSummaries(userId, normalizedCategory, beforeId, page)
+        : attemptRepository.findWrongNotes(userId, normalizedCategory, beforeId, page);
+
+    String nextCursor = null;
+    if (rows.size() > pageSize) {
+      rows = rows.subList(0, pageSize);
+      nextCursor = encodeCursor(rows.get(pageSize - 1).attempt_id());
     }
-
-    return new WrongNoteResponse(items);
+    return new WrongNoteResponse(rows, nextCursor);
   }
 
-  private String normalizeCategory(String category) {
-    if (category == null || category.isBlank()) {
-      return null;
-    }
-    return category.trim();
+  public WrongNoteItem getWrongNote(Long id, Long userId) {
+    ExamAi row = examAiRepository.findByIdAndUserId(id, userId)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "문제를 찾을 수 없습니다."));
+    ExamAttempt attempt = attemptRepository.findTopByUserIdAndExamAiIdOrderByIdDesc(userId, id)
+        .filter(latest -> !latest.isCorrect())
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "문제를 찾을 수 없습니다."));
+    return new WrongNoteItem(
+        row.getId(),
+        attempt.getId(),
+        row.getCategory(),
+        row.getQuestionText(),
+        row.getAnswerText(),
+        attempt.getUserAnswer(),
+        row.getExplanation(),
+        attempt.getAttemptedAt()
+    );
   }
 
-  private int normalizeCount(Integer count) {
-    if (count == null || count < 1) {
-      return DEFAULT_COUNT;
-    }
-    return Math.min(count, MAX_COUNT);
+  public ExamStatsResponse getStats(Long userId) {
+    return new ExamStatsResponse(attemptRepository.summarizeByCategory(userId));
   }
 
-  private boolean isCodingCategory(String category) {
-    if (category == null) {
-      return false;
-    }
-    String value = category.trim().toLowerCase();
-    return value.equals("c") || value.equals("java") || value.equals("python");
+  private String encodeCursor(Long attemptId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(attemptId.toString().getBytes(StandardCharsets.UTF_8));
   }
 
-  private List<Exam> findExamples(String category) {
-    if (category != null) {
-      List<Exam> examples = examRepository.findRandomByCategory(category, PageRequest.of(0, EXAMPLE_COUNT));
-      if (!examples.isEmpty()) {
-        return examples;
-      }
+  private Long decodeCursor(String cursor) {
+    try {
+      return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
     }
-    return examRepository.findRandomByCategory(null, PageRequest.of(0, EXAMPLE_COUNT));
   }
 
-  private String buildPrompt(List<Exam> examples, String category, int count) {
-    StringBuilder builder = new StringBuilder();
-    builder.append("너는 정보처리기사 스타일의 문제를 생성하는 AI다.\n");
-    builder.append("아래 예시는 스타일 참고용이며 문장을 복사하지 마라.\n");
-    builder.append("출력은 JSON 배열만 반환하고, 각 항목은 다음 키를 가진다: category, question_text, answer_text, explanation.\n");
-    builder.append("explanation은 한 줄로 간단히 무조건 한국어로만 작성한다.\n");
-    builder.append("동일한 내용이나 문구를 반복하지 말 것.\n\n");
-    builder.append("응답은 JSON 배열만 출력한다. 다른 텍스트는 절대 포함하지 마라.\n");
-    builder.append("반드시 ").append(count).append("개 항목을 출력한다.\n");
-    builder.append("예시 형식: [{\"category\":\"Theory\",\"question_text\":\"...\",\"answer_text\":\"...\",\"explanation\":\"...\"}]\n\n");
-
-    if (category != null) {
-      builder.append("요청 카테고리: ").append(category).append("\n\n");
-    } else {
-      builder.append("카테고리는 자유롭게 선택 가능.\n\n");
-    }
-
-    builder.append("[예시]\n");
-    for (Exam exam : examples) {
-      builder
-          .append("- [")
-          .append(exam.getCategory())
-          .append("] ")
-          .append(exam.getQuestionText().replace("\n", " "))
-          .append(" => ")
-          .append(exam.getAnswerText())
-          .append("\n");
-    }
-
-    builder.append("\n");
-    builder.append("생성 개수: ").append(count).append("\n");
-    builder.append("JSON 배열만 출력하라.\n");
-    return builder.toString();
+  private ExamAiQuestionItem toQuestionItem(ExamAi examAi) {
+    return new ExamAiQuestionItem(
+        examAi.getId(),
+        examAi.getCategory(),
+        examAi.getQuestionText()
+    );
   }
 
-  private String buildCodingPrompt(List<Exam> examples, String category, int count) {
-    String language = category == null ? "C/Java/Python" : category;
-    StringBuilder builder = new StringBuilder();
-    builder.append("너는 정보처리기사 스타일의 코딩 문제를 생성하는 AI다.\n");
-    builder.append("언어는 ").append(language).append(" 이다.\n");
-    builder.append("각 문제는 코드가 포함되어야 하고, 질문은 반드시 출력 결과를 묻는 형태여야 한다.\n");
-    builder.append("answer_text는 코드 실행 시 정확한 출력만 작성한다.\n");
-    builder.append("출력은 JSON 배열만 반환하고, 각 항목은 다음 키를 가진다: category, question_text, answer_text, explanation.\n");
-    builder.append("explanation은 한 줄로 간단히 무조건 한국어로만 작성한다.\n");
-    builder.append("문장을 복사하지 말고 새로운 문제를 만들 것.\n\n");
-    builder.append("응답은 JSON 배열만 출력한다. 다른 텍스트는 절대 포함하지 마라.\n");
-    builder.append("반드시 ").append(count).append("개 항목을 출력한다.\n");
-    builder.append("예시 형식: [{\"category\":\"C\",\"question_text\":\"...\",\"answer_text\":\"...\",\"explanation\":\"...\"}]\n\n");
-
-    builder.append("[예시]\n");
-    for (Exam exam : examples) {
-      builder
-          .append("- [")
-          .append(exam.getCategory())
-          .append("] ")
-          .append(exam.getQuestionText().replace("\n", " "))
-          .append(" => ")
-          .append(exam.getAnswerText())
-          .append("\n");
+  String normalizeCategory(String category) {
+    if (category == null || category.isBlank()) {
+      return null;
     }
-
-    builder.append("\n");
-    builder.append("생성 개수: ").append(count).append("\n");
-    builder.append("question_text에는 코드와 함께 '출력 결과를 작성하시오.'를 포함하라.\n");
-    builder.append("JSON 배열만 출력하라.\n");
-    return builder.toString();
+    return category.trim();
   }
 
-  private String buildTheoryPrompt(List<Exam> examples, String category, int count) {
-    StringBuilder builder = new StringBuilder();
-    builder.append("너는 정보처리기사 스타일의 이론 문제를 생성하는 AI다.\n");
-    builder.append("정의나 설명을 주고 무엇인지 맞히는 문제를 만든다.\n");
-    builder.append("서브넷 마스크 계산처럼 간단한 계산형 문제도 포함 가능하다.\n");
-    builder.append("출력은 JSON 배열만 반환하고, 각 항목은 다음 키를 가진다: category, question_text, answer_text, explanation.\n");
-    builder.append("explanation은 한 줄로 간단히 무조건 한국어로만 작성한다.\n");
-    builder.append("문장을 복사하지 말고 새로운 문제를 만들 것.\n\n");
-    builder.append("응답은 JSON 배열만 출력한다. 다른 텍스트는 절대 포함하지 마라.\n");
-    builder.append("반드시 ").append(count).append("개 항목을 출력한다.\n");
-    builder.append("예시 형식: [{\"category\":\"Theory\",\"question_text\":\"...\",\"answer_text\":\"...\",\"explanation\":\"...\"}]\n\n");
-
-    if (category != null) {
-      builder.append("요청 카테고리: ").append(category).append("\n\n");
-    }
-
-    builder.append("[예시]\n");
-    for (Exam exam : examples) {
-      builder
-          .append("- [")
-          .append(exam.getCategory())
-          .append("] ")
-          .append(exam.getQuestionText().replace("\n", " "))
-          .append(" => ")
-          .append(exam.getAnswerText())
-          .append("\n");
+  int normalizeCount(Integer count) {
+    if (count == null || count < 1) {
+      return DEFAULT_COUNT;
     }
-
-    builder.append("\n");
-    builder.append("생성 개수: ").append(count).append("\n");
-    builder.append("JSON 배열만 출력하라.\n");
-    return builder.toString();
+    return Math.min(count, MAX_COUNT);
   }
 
-  private String callOllama(String prompt) {
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_JSON);
-
-    Map<String, Object> body = new HashMap<>();
-    body.put("model", model);
-    body.put("prompt", prompt);
-    body.put("stream", false);
-    body.put("format", buildJsonSchema());
-    body.put("options", Map.of("temperature", 0.2));
-
-    HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-    OllamaGenerateResponse response = restTemplate.postForObject(
-        baseUrl + "/api/generate",
-        entity,
-        OllamaGenerateResponse.class
-    );
-
-    if (response == null || response.response() == null) {
-      throw new IllegalStateException("Ollama 응답이 비어 있습니다.");
+  String normalizeAliases(String aliases) {
+    if (aliases == null || aliases.isBlank()) {
+      return null;
     }
-
-    return response.response();
+    String trimmed = aliases.trim();
+    return trimmed.length() > MAX_ALIASES_LENGTH ? trimmed.substring(0, MAX_ALIASES_LENGTH) : trimmed;
   }
 
-  private List<GeneratedExamItem> parseItems(String text) {
-    String json = extractJsonPayload(text);
+  private List<ExamAi> saveFromPool(List<GeneratedExamItem> pooled, String category, Long userId) {
+    if (pooled.isEmpty()) {
+      return List.of();
+    }
+    List<ExamAi> saved;
     try {
-      JsonNode root = objectMapper.readTree(json);
-      List<GeneratedExamItem> items = new ArrayList<>();
-      if (root.isArray()) {
-        for (JsonNode node : root) {
-          if (node.isObject()) {
-            items.add(objectMapper.treeToValue(node, GeneratedExamItem.class));
-          }
-        }
-      } else if (root.isObject()) {
-        JsonNode arr = root.get("items");
-        if (arr != null && arr.isArray()) {
-          for (JsonNode node : arr) {
-            if (node.isObject()) {
-              items.add(objectMapper.treeToValue(node, GeneratedExamItem.class));
-            }
-          }
-        }
+      saved = saveItems(pooled, category, category, userId);
+    } catch (RuntimeException ex) {
+      questionPool.putBack(category, pooled);
+      throw ex;
+    }
+    if (saved.size() < pooled.size()) {
+      Set<String> used = new HashSet<>();
+      for (ExamAi examAi : saved) {
+        used.add(examAi.getQuestionText());
       }
-
-      if (items.isEmpty()) {
-        throw new IllegalStateException("JSON 배열에 유효한 문제가 없습니다.");
+      List<GeneratedExamItem> unused = new ArrayList<>();
+      for (GeneratedExamItem item : pooled) {
+        if (!used.contains(item.question_text())) {
+          unused.add(item);
+        }
       }
-      return items;
-    } catch (Exception ex) {
-      throw new IllegalStateException("JSON 파싱 실패: " + ex.getMessage(), ex);
+      questionPool.putBack(category, unused);
     }
+    return saved;
   }
 
-  private Map<String, Object> buildJsonSchema() {
-    Map<String, Object> schema = new HashMap<>();
-    schema.put("type", "array");
-
-    Map<String, Object> item = new HashMap<>();
-    item.put("type", "object");
-
-    Map<String, Object> properties = new HashMap<>();
-    properties.put("category", Map.of("type", "string"));
-    properties.put("question_text", Map.of("type", "string"));
-    properties.put("answer_text", Map.of("type", "string"));
-    properties.put("explanation", Map.of("type", "string"));
-
-    item.put("properties", properties);
-    item.put("required", List.of("category", "question_text", "answer_text", "explanation"));
-
-    schema.put("items", item);
-    return schema;
-  }
-
-  private String extractJsonPayload(String text) {
-    int arrayStart = text.indexOf('[');
-    int objectStart = text.indexOf('{');
-    int start;
-    if (arrayStart >= 0 && objectStart >= 0) {
-      start = Math.min(arrayStart, objectStart);
-    } else if (arrayStart >= 0) {
-      start = arrayStart;
-    } else {
-      start = objectStart;
-    }
-
-    if (start < 0) {
-      throw new IllegalStateException("JSON 데이터를 찾지 못했습니다.");
-    }
-
-    char startChar = text.charAt(start);
-    int end = startChar == '[' ? text.lastIndexOf(']') : text.lastIndexOf('}');
-    if (end <= start) {
-      throw new IllegalStateException("JSON 끝 위치를 찾지 못했습니다.");
-    }
-    return text.substring(start, end + 1);
+  private List<ExamAi> saveItems(
+      List<GeneratedExamItem> items,
+      String requestCategory,
+      String fallbackCategory,
+      Long userId
+  ) {
+    return saveItems(items, requestCategory, fallbackCategory, userId, null);
   }
 
-  private List<ExamAi> saveItems(List<GeneratedExamItem> items, String requestCategory, String fallbackCategory) {
+  private List<ExamAi> saveItems(
+      List<GeneratedExamItem> items,
+      String requestCategory,
+      String fallbackCategory,
+      Long userId,
+      String jobId
+  ) {
     List<ExamAi> entities = new ArrayList<>();
+    List<QuestionDuplicateIndex.Reservation> reservations = new ArrayList<>();
     for (GeneratedExamItem item : items) {
       if (item.question_text() == null || item.question_text().isBlank()) {
         continue;
@@ -441,26 +419,103 @@ public class ExamAiService {
       if (category == null) {
         category = fallbackCategory;
       }
+      QuestionDuplicateIndex.Reservation reservation = duplicateIndex.reserve(category, item.question_text(), userId);
+      if (reservation == null) {
+        continue;
+      }
       ExamAi examAi = new ExamAi();
+      examAi.setUserId(userId);
       examAi.setCategory(category);
+      examAi.setJobId(jobId);
       examAi.setQuestionText(item.question_text());
       examAi.setAnswerText(item.answer_text());
+      examAi.setAnswerAliases(normalizeAliases(item.answer_aliases()));
       examAi.setExplanation(explanation);
       entities.add(examAi);
+      reservations.add(reservation);
     }
     if (entities.isEmpty()) {
       return List.of();
     }
-    return examAiRepository.saveAll(entities);
+
+    List<CompletableFuture<CodeVerification>> verifications = new ArrayList<>(entities.size());
+    for (ExamAi examAi : entities) {
+      verifications.add(ExamAiGenerator.isCodingCategory(examAi.getCategory())
+          ? codeVerifier.verify(examAi.getCategory(), examAi.getQuestionText(), examAi.getAnswerText())
+          : null);
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(verifyWaitMs);
+    List<ExamAi> verified = new ArrayList<>(entities.size());
+    List<QuestionDuplicateIndex.Reservation> kept = new ArrayList<>(entities.size());
+    List<CompletableFuture<CodeVerification>> pending = new ArrayList<>(entities.size());
+    for (int i = 0; i < entities.size(); i++) {
+      ExamAi examAi = entities.get(i);
+      CompletableFuture<CodeVerification> verification = verifications.get(i);
+      CodeVerification result = verification == null ? CodeVerification.SKIPPED : await(verification, deadline);
+      if (result == null) {
+        verified.add(examAi);
+        kept.add(reservations.get(i));
+        pending.add(verification);
+        continue;
+      }
+      if (result.status() == VerificationStatus.REJECTED) {
+        reservations.get(i).release();
+        continue;
+      }
+      if (result.status() == VerificationStatus.CORRECTED) {
+        examAi.setAnswerText(result.output());
+      }
+      if (result.status() != VerificationStatus.SKIPPED) {
+        examAi.setVerification(result.status());
+      }
+      verified.add(examAi);
+      kept.add(reservations.get(i));
+      pending.add(null);
+    }
+    if (verified.isEmpty()) {
+      return List.of();
+    }
+
+    List<ExamAi> saved;
+    try {
+      saved = examAiRepository.saveAll(verified);
+    } catch (RuntimeException ex) {
+      kept.forEach(QuestionDuplicateIndex.Reservation::release);
+      throw ex;
+    }
+    for (int i = 0; i < saved.size(); i++) {
+      CompletableFuture<CodeVerification> verification = pending.get(i);
+      if (verification != null) {
+        ExamAi examAi = saved.get(i);
+        verification.thenAccept(result -> applyVerification(examAi, result))
+            .exceptionally(ex -> {
+              logger.warn("Failed to store code verification for exam_ai {}: {}", examAi.getId(), ex.getMessage());
+              return null;
+            });
+      }
+    }
+    return saved;
   }
 
-  private String normalizeAnswer(String value) {
-    if (value == null) {
-      return "";
+  private static CodeVerification await(CompletableFuture<CodeVerification> verification, long deadline) {
+    try {
+      return verification.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException ex) {
+      return null;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException ex) {
+      return CodeVerification.SKIPPED;
     }
-    return value.replace("\r\n", "\n").trim();
   }
 
-  private record OllamaGenerateResponse(String response) {
+  private void applyVerification(ExamAi examAi, CodeVerification result) {
+    if (result.status() == VerificationStatus.SKIPPED) {
+      return;
+    }
+    String answerText = result.status() == VerificationStatus.CORRECTED ? result.output() : examAi.getAnswerText();
+    examAiRepository.updateVerification(examAi.getId(), answerText, result.status());
   }
 }
@@ -0,0 +1,100 @@
+package com.example.rest.exam;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "exam_attempt", indexes = {
+  @Index(name = "idx_exam_attempt_user_wrong", columnList = "user_id, category, correct, id"),
+  @Index(name = "idx_exam_attempt_user_question", columnList = "user_id, exam_ai_id, id")
+})
+public class ExamAttempt {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "exam_ai_id", nullable = false)
+  private Long examAiId;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(nullable = false, length = 20)
+  private String category;
+
+  @Lob
+  @Column(name = "user_answer", columnDefinition = "LONGTEXT")
+  private String userAnswer;
+
+  @Column(nullable = false)
+  private boolean correct;
+
+  @Column(name = "attempted_at", nullable = false)
+  private Instant attemptedAt;
+
+  public ExamAttempt() {
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getExamAiId() {
+    return examAiId;
+  }
+
+  public void setExamAiId(Long examAiId) {
+    this.examAiId = examAiId;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
+  public String getCategory() {
+    return category;
+  }
+
+  public void setCategory(String category) {
+    this.category = category;
+  }
+
+  public String getUserAnswer() {
+    return userAnswer;
+  }
+
+  public void setUserAnswer(String userAnswer) {
+    this.userAnswer = userAnswer;
+  }
+
+  public boolean isCorrect() {
+    return correct;
+  }
+
+  public void setCorrect(boolean correct) {
+    this.correct = correct;
+  }
+
+  public Instant getAttemptedAt() {
+    return attemptedAt;
+  }
+
+  public void setAttemptedAt(Instant attemptedAt) {
+    this.attemptedAt = attemptedAt;
+  }
+}
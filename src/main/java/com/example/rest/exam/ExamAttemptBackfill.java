@@ -0,0 +1,39 @@
+package com.example.rest.exam;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Answers graded before exam_attempt existed were stored on exam_ai itself. Copy them over once and
+// clear is_solved so later startups find nothing left to move.
+@Component
+public class ExamAttemptBackfill {
+  private static final Logger logger = LoggerFactory.getLogger(ExamAttemptBackfill.class);
+  private static final String COPY_LEGACY_ATTEMPTS =
+      "INSERT INTO exam_attempt (exam_ai_id, user_id, category, user_answer, correct, attempted_at) "
+          + "SELECT e.id, e.user_id, e.category, e.user_answer, e.is_correct, e.updated_at FROM exam_ai e "
+          + "WHERE e.is_solved = TRUE AND e.user_id IS NOT NULL "
+          + "AND NOT EXISTS (SELECT 1 FROM exam_attempt a WHERE a.exam_ai_id = e.id AND a.user_id = e.user_id) "
+          + "ORDER BY e.id";
+  private static final String CLEAR_LEGACY_FLAGS = "UPDATE exam_ai SET is_solved = FALSE WHERE is_solved = TRUE";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ExamAttemptBackfill(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Transactional
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    int copied = jdbcTemplate.update(COPY_LEGACY_ATTEMPTS);
+    int cleared = jdbcTemplate.update(CLEAR_LEGACY_FLAGS);
+    if (copied > 0 || cleared > 0) {
+      logger.info("Backfilled {} legacy exam attempts ({} exam_ai rows cleared)", copied, cleared);
+    }
+  }
+}
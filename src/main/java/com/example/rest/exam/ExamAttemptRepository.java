@@ -0,0 +1,60 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.ExamStatsItem;
+import com.example.rest.exam.dto.WrongNoteItem;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ExamAttemptRepository extends JpaRepository<ExamAttempt, Long> {
+	@Query("""
+		SELECT new com.example.rest.exam.dto.WrongNoteItem(
+			e.id, a.id, a.category, e.questionText, e.answerText, a.userAnswer, e.explanation, a.attemptedAt)
+		FROM ExamAttempt a JOIN ExamAi e ON e.id = a.examAiId
+		WHERE a.userId = :userId AND a.correct = false
+			AND (:category IS NULL OR a.category = :category)
+			AND (:beforeId IS NULL OR a.id < :beforeId)
+			AND NOT EXISTS (
+				SELECT 1 FROM ExamAttempt n
+				WHERE n.userId = a.userId AND n.examAiId = a.examAiId AND n.id > a.id)
+		ORDER BY a.id DESC
+		""")
+	List<WrongNoteItem> findWrongNotes(
+		@Param("userId") Long userId,
+		@Param("category") String category,
+		@Param("beforeId") Long beforeId,
+		Pageable pageable);
+
+	@Query("""
+		SELECT new com.example.rest.exam.dto.WrongNoteItem(
+			a.examAiId, a.id, a.category, e.answerText, a.userAnswer, a.attemptedAt)
+		FROM ExamAttempt a JOIN ExamAi e ON e.id = a.examAiId
+		WHERE a.userId = :userId AND a.correct = false
+			AND (:category IS NULL OR a.category = :category)
+			AND (:beforeId IS NULL OR a.id < :beforeId)
+			AND NOT EXISTS (
+				SELECT 1 FROM ExamAttempt n
+				WHERE n.userId = a.userId AND n.examAiId = a.examAiId AND n.id > a.id)
+		ORDER BY a.id DESC
+		""")
+	List<WrongNoteItem> findWrongNoteSummaries(
+		@Param("userId") Long userId,
+		@Param("category") String category,
+		@Param("beforeId") Long beforeId,
+		Pageable pageable);
+
+	Optional<ExamAttempt> findTopByUserIdAndExamAiIdOrderByIdDesc(Long userId, Long examAiId);
+
+	@Query("""
+		SELECT new com.example.rest.exam.dto.ExamStatsItem(
+			a.category, COUNT(a), SUM(CASE WHEN a.correct = true THEN 1 ELSE 0 END))
+		FROM ExamAttempt a
+		WHERE a.userId = :userId
+		GROUP BY a.category
+		ORDER BY a.category
+		""")
+	List<ExamStatsItem> summarizeByCategory(@Param("userId") Long userId);
+}
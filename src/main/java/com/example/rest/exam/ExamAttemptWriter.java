@@ -0,0 +1,45 @@
+package com.example.rest.exam;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExamAttemptWriter {
+  private static final String INSERT_ATTEMPT =
+      "INSERT INTO exam_attempt (exam_ai_id, user_id, category, user_answer, correct, attempted_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ExamAttemptWriter(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void insertAll(List<ExamAttempt> attempts) {
+    if (attempts.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_ATTEMPT, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement statement, int i) throws SQLException {
+        ExamAttempt attempt = attempts.get(i);
+        statement.setLong(1, attempt.getExamAiId());
+        statement.setLong(2, attempt.getUserId());
+        statement.setString(3, attempt.getCategory());
+        statement.setString(4, attempt.getUserAnswer());
+        statement.setBoolean(5, attempt.isCorrect());
+        statement.setTimestamp(6, Timestamp.from(attempt.getAttemptedAt()));
+      }
+
+      @Override
+      public int getBatchSize() {
+        return attempts.size();
+      }
+    });
+  }
+}
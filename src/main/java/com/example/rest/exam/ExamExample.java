@@ -0,0 +1,18 @@
+package com.example.rest.exam;
+
+public record ExamExample(
+    long id,
+    String category,
+    String questionText,
+    String promptLine
+) {
+  static ExamExample from(Exam exam) {
+    if (exam.getCategory() == null || exam.getQuestionText() == null || exam.getAnswerText() == null) {
+      return new ExamExample(exam.getId(), exam.getCategory(), exam.getQuestionText(), null);
+    }
+    String line = "- [" + exam.getCategory() + "] "
+        + exam.getQuestionText().replace("\n", " ")
+        + " => " + exam.getAnswerText() + "\n";
+    return new ExamExample(exam.getId(), exam.getCategory(), exam.getQuestionText(), line);
+  }
+}
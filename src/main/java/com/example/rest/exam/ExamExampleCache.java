@@ -0,0 +1,169 @@
+package com.example.rest.exam;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExamExampleCache {
+  private static final Logger logger = LoggerFactory.getLogger(ExamExampleCache.class);
+  private static final ExamExample[] EMPTY = new ExamExample[0];
+
+  private final ExamRepository examRepository;
+  private final long refreshIntervalMs;
+  private final long fullReloadIntervalNanos;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "exam-example-refresh");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final ReentrantLock refreshLock = new ReentrantLock();
+  private volatile Snapshot snapshot = Snapshot.empty();
+  private long lastFullReload;
+
+  public ExamExampleCache(
+      ExamRepository examRepository,
+      @Value("${app.exam-ai.examples.refresh-interval-ms:300000}") long refreshIntervalMs,
+      @Value("${app.exam-ai.examples.full-reload-interval-ms:3600000}") long fullReloadIntervalMs
+  ) {
+    this.examRepository = examRepository;
+    this.refreshIntervalMs = Math.max(1000, refreshIntervalMs);
+    this.fullReloadIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(this.refreshIntervalMs, fullReloadIntervalMs));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    refresh();
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        refresh();
+      } catch (RuntimeException ex) {
+        logger.warn("Exam example refresh failed: {}", ex.getMessage());
+      }
+    }, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdownNow();
+  }
+
+  public void refresh() {
+    refreshLock.lock();
+    try {
+      Snapshot current = snapshot;
+      long now = System.nanoTime();
+      if (current.byId().isEmpty() || now - lastFullReload >= fullReloadIntervalNanos) {
+        snapshot = Snapshot.empty().merge(examRepository.findAll());
+        lastFullReload = now;
+        return;
+      }
+      List<Exam> changed = examRepository.findChangedSince(current.maxId(), current.maxUpdatedAt());
+      Snapshot next = changed.isEmpty() ? current : current.merge(changed);
+      if (examRepository.count() != next.byId().size()) {
+        next = Snapshot.empty().merge(examRepository.findAll());
+        lastFullReload = now;
+      }
+      snapshot = next;
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  public Collection<ExamExample> entries() {
+    return snapshot.byId().values();
+  }
+
+  public List<ExamExample> sample(String category, int count) {
+    Snapshot current = snapshot;
+    ExamExample[] examples = category == null ? current.all() : current.byCategory().get(key(category));
+    if (examples == null || examples.length == 0 || count < 1) {
+      return List.of();
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (count >= examples.length) {
+      List<ExamExample> picked = new ArrayList<>(List.of(examples));
+      Collections.shuffle(picked, random);
+      return picked;
+    }
+
+    Set<Integer> seen = new HashSet<>();
+    List<ExamExample> picked = new ArrayList<>(count);
+    while (picked.size() < count) {
+      int index = random.nextInt(examples.length);
+      if (seen.add(index)) {
+        picked.add(examples[index]);
+      }
+    }
+    return picked;
+  }
+
+  private static String key(String category) {
+    return category.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private record Snapshot(
+      Map<Long, ExamExample> byId,
+      ExamExample[] all,
+      Map<String, ExamExample[]> byCategory,
+      long maxId,
+      Instant maxUpdatedAt
+  ) {
+    static Snapshot empty() {
+      return new Snapshot(Map.of(), EMPTY, Map.of(), 0L, Instant.EPOCH);
+    }
+
+    Snapshot merge(List<Exam> rows) {
+      Map<Long, ExamExample> merged = new HashMap<>(byId);
+      long nextMaxId = maxId;
+      Instant nextMaxUpdatedAt = maxUpdatedAt;
+      for (Exam exam : rows) {
+        nextMaxId = Math.max(nextMaxId, exam.getId());
+        if (exam.getUpdatedAt() != null && exam.getUpdatedAt().isAfter(nextMaxUpdatedAt)) {
+          nextMaxUpdatedAt = exam.getUpdatedAt();
+        }
+        merged.put(exam.getId(), ExamExample.from(exam));
+      }
+
+      List<ExamExample> usable = new ArrayList<>(merged.size());
+      Map<String, List<ExamExample>> grouped = new HashMap<>();
+      for (ExamExample example : merged.values()) {
+        if (example.promptLine() == null) {
+          continue;
+        }
+        usable.add(example);
+        grouped.computeIfAbsent(key(example.category()), k -> new ArrayList<>()).add(example);
+      }
+      Map<String, ExamExample[]> partitions = new HashMap<>();
+      grouped.forEach((category, examples) -> partitions.put(category, examples.toArray(EMPTY)));
+
+      return new Snapshot(
+          Map.copyOf(merged),
+          usable.toArray(EMPTY),
+          Map.copyOf(partitions),
+          nextMaxId,
+          nextMaxUpdatedAt
+      );
+    }
+  }
+}
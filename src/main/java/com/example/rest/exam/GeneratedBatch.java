@@ -0,0 +1,10 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import java.util.List;
+
+public record GeneratedBatch(
+    List<GeneratedExamItem> items,
+    String exampleCategory
+) {
+}
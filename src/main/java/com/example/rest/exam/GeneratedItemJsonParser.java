@@ -0,0 +1,135 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+final class GeneratedItemJsonParser {
+  private final ObjectMapper objectMapper;
+  private final JsonFactory jsonFactory;
+
+  GeneratedItemJsonParser(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  List<GeneratedExamItem> parse(String text) {
+    int start = findStart(text);
+    if (start < 0) {
+      throw new IllegalStateException("JSON 데이터를 찾지 못했습니다.");
+    }
+
+    List<GeneratedExamItem> items = new ArrayList<>();
+    try {
+      readRoot(text, start, items);
+    } catch (IOException ex) {
+      List<GeneratedExamItem> recovered = recover(text, start);
+      if (recovered.size() > items.size()) {
+        items = recovered;
+      }
+      if (items.isEmpty()) {
+        throw new IllegalStateException("JSON 파싱 실패: " + ex.getMessage(), ex);
+      }
+    }
+
+    if (items.isEmpty()) {
+      throw new IllegalStateException("JSON 배열에 유효한 문제가 없습니다.");
+    }
+    return items;
+  }
+
+  private void readRoot(String text, int start, List<GeneratedExamItem> items) throws IOException {
+    StringReader reader = new StringReader(text);
+    reader.skip(start);
+    try (JsonParser parser = jsonFactory.createParser(reader)) {
+      JsonToken root = parser.nextToken();
+      if (root == JsonToken.START_ARRAY) {
+        readArray(parser, items);
+      } else if (root == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.currentName();
+          JsonToken value = parser.nextToken();
+          if ("items".equals(name) && value == JsonToken.START_ARRAY) {
+            readArray(parser, items);
+            return;
+          }
+          parser.skipChildren();
+        }
+      }
+    }
+  }
+
+  private void readArray(JsonParser parser, List<GeneratedExamItem> items) throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (token == null) {
+        throw new IOException("Unexpected end of JSON array");
+      }
+      if (token == JsonToken.START_OBJECT) {
+        items.add(readItem(parser));
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private GeneratedExamItem readItem(JsonParser parser) throws IOException {
+    String category = null;
+    String questionText = null;
+    String answerText = null;
+    String explanation = null;
+    String answerAliases = null;
+
+    JsonToken token;
+    while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (name) {
+        case "category" -> category = readText(parser, value);
+        case "question_text" -> questionText = readText(parser, value);
+        case "answer_text" -> answerText = readText(parser, value);
+        case "explanation" -> explanation = readText(parser, value);
+        case "answer_aliases" -> answerAliases = readText(parser, value);
+        default -> parser.skipChildren();
+      }
+    }
+    if (token != JsonToken.END_OBJECT) {
+      throw new IOException("Unexpected token in JSON object: " + token);
+    }
+    return new GeneratedExamItem(category, questionText, answerText, explanation, answerAliases);
+  }
+
+  private String readText(JsonParser parser, JsonToken value) throws IOException {
+    if (value == null) {
+      throw new IOException("Unexpected end of JSON object");
+    }
+    if (value.isStructStart()) {
+      parser.skipChildren();
+      return null;
+    }
+    return value == JsonToken.VALUE_NULL ? null : parser.getText();
+  }
+
+  private List<GeneratedExamItem> recover(String text, int start) {
+    List<GeneratedExamItem> recovered = new ArrayList<>();
+    StreamingItemParser scanner = new StreamingItemParser(objectMapper, recovered::add, true);
+    scanner.feed(text.substring(start));
+    return recovered;
+  }
+
+  private static int findStart(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '[' || c == '{') {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,47 @@
+package com.example.rest.exam;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GenerationCoalescer {
+  private final ConcurrentHashMap<Key, CompletableFuture<GeneratedBatch>> inFlight = new ConcurrentHashMap<>();
+
+  public GeneratedBatch execute(String template, String category, int count, Supplier<GeneratedBatch> generation) {
+    Key key = new Key(template, category == null ? null : category.trim().toLowerCase(Locale.ROOT), count);
+    CompletableFuture<GeneratedBatch> mine = new CompletableFuture<>();
+    CompletableFuture<GeneratedBatch> existing = inFlight.putIfAbsent(key, mine);
+    if (existing != null) {
+      return await(existing);
+    }
+
+    try {
+      GeneratedBatch batch = generation.get();
+      mine.complete(batch);
+      return batch;
+    } catch (RuntimeException ex) {
+      mine.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private GeneratedBatch await(CompletableFuture<GeneratedBatch> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  private record Key(String template, String category, int count) {
+  }
+}
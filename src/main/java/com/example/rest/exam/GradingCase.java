@@ -0,0 +1,10 @@
+package com.example.rest.exam;
+
+public record GradingCase(
+    Long id,
+    String category,
+    String expected,
+    String aliases,
+    String answer
+) {
+}
@@ -0,0 +1,5 @@
+package com.example.rest.exam;
+
+public interface GradingStage {
+  GradingVerdict evaluate(GradingCase gradingCase);
+}
@@ -0,0 +1,7 @@
+package com.example.rest.exam;
+
+public enum GradingVerdict {
+  CORRECT,
+  WRONG,
+  UNDECIDED
+}
@@ -0,0 +1,28 @@
+package com.example.rest.exam;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class JsonSchemas {
+  private JsonSchemas() {
+  }
+
+  @SafeVarargs
+  static Map<String, Object> arrayOf(List<String> required, Map.Entry<String, String>... propertyTypes) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    for (Map.Entry<String, String> property : propertyTypes) {
+      properties.put(property.getKey(), Map.of("type", property.getValue()));
+    }
+
+    Map<String, Object> item = new LinkedHashMap<>();
+    item.put("type", "object");
+    item.put("properties", properties);
+    item.put("required", required);
+
+    Map<String, Object> schema = new LinkedHashMap<>();
+    schema.put("type", "array");
+    schema.put("items", item);
+    return schema;
+  }
+}
@@ -0,0 +1,29 @@
+package com.example.rest.exam;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class OllamaBusyException extends ResponseStatusException {
+  private final long retryAfterSeconds;
+
+  public OllamaBusyException(long retryAfterSeconds) {
+    this(HttpStatus.TOO_MANY_REQUESTS, "문제 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+  }
+
+  public OllamaBusyException(HttpStatus status, String reason, long retryAfterSeconds) {
+    super(status, reason);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+
+  @Override
+  public HttpHeaders getHeaders() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    return headers;
+  }
+}
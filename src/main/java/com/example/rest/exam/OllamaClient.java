@@ -0,0 +1,353 @@
+package com.example.rest.exam;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+
+@Component
+public class OllamaClient {
+  private static final Logger logger = LoggerFactory.getLogger(OllamaClient.class);
+
+  private final RestTemplate restTemplate;
+  private final WebClient webClient;
+  private final String baseUrl;
+  private final String model;
+  private final String keepAlive;
+  private final int maxConcurrency;
+  private final int queueCapacity;
+  private final long queueTimeoutMs;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final PriorityQueue<Waiter> waiting = new PriorityQueue<>();
+  private long sequence;
+  private int active;
+  private int interactiveActive;
+  private double averageCallMs;
+
+  public OllamaClient(
+      RestTemplateBuilder restTemplateBuilder,
+      WebClient.Builder webClientBuilder,
+      @Value("${app.ollama.base-url}") String baseUrl,
+      @Value("${app.ollama.model}") String model,
+      @Value("${app.ollama.keep-alive:30m}") String keepAlive,
+      @Value("${app.ollama.max-concurrency:1}") int maxConcurrency,
+      @Value("${app.ollama.queue-capacity:32}") int queueCapacity,
+      @Value("${app.ollama.queue-timeout-ms:120000}") long queueTimeoutMs
+  ) {
+    this.restTemplate = restTemplateBuilder
+        .requestFactoryBuilder(ClientHttpRequestFactoryBuilder.jdk())
+        .build();
+    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.baseUrl = baseUrl;
+    this.model = model;
+    this.keepAlive = keepAlive;
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    this.queueCapacity = Math.max(0, queueCapacity);
+    this.queueTimeoutMs = Math.max(1, queueTimeoutMs);
+    this.averageCallMs = 20000;
+  }
+
+  public String generate(OllamaPrompt prompt, Object format, OllamaPriority priority) {
+    return withPermit(priority, () -> {
+      HttpHeaders headers = new HttpHeaders();
+      headers.setContentType(MediaType.APPLICATION_JSON);
+
+      HttpEntity<Map<String, Object>> entity = new HttpEntity<>(buildGenerateBody(prompt, format, false), headers);
+      OllamaGenerateResponse response = restTemplate.postForObject(
+          baseUrl + "/api/generate",
+          entity,
+          OllamaGenerateResponse.class
+      );
+
+      if (response == null || response.response() == null) {
+        throw new IllegalStateException("Ollama 응답이 비어 있습니다.");
+      }
+
+      recordMetrics(priority, response);
+      return response.response();
+    });
+  }
+
+  public CompletableFuture<Void> generateStreamAsync(
+      OllamaPrompt prompt,
+      Object format,
+      OllamaPriority priority,
+      Predicate<String> onToken
+  ) {
+    Map<String, Object> body = buildGenerateBody(prompt, format, true);
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    CompletableFuture<Void> permit = acquireAsync(priority);
+    result.whenComplete((ignored, ex) -> permit.cancel(false));
+    permit.whenComplete((granted, permitEx) -> {
+      if (permitEx != null) {
+        result.completeExceptionally(unwrap(permitEx));
+        return;
+      }
+
+      long started = System.nanoTime();
+      AtomicBoolean released = new AtomicBoolean(false);
+      Runnable releaseOnce = () -> {
+        if (released.compareAndSet(false, true)) {
+          release(priority, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+      };
+      result.whenComplete((ignored, ex) -> releaseOnce.run());
+      if (result.isDone()) {
+        return;
+      }
+
+      Disposable subscription = webClient.post()
+          .uri("/api/generate")
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(body)
+          .retrieve()
+          .bodyToFlux(OllamaGenerateResponse.class)
+          .takeWhile(chunk -> accept(priority, chunk, onToken))
+          .then()
+          .subscribe(
+              null,
+              ex -> result.completeExceptionally(streamFailure(ex)),
+              () -> result.complete(null)
+          );
+      result.whenComplete((ignored, ex) -> subscription.dispose());
+    });
+    return result;
+  }
+
+  public boolean hasInteractiveWork() {
+    lock.lock();
+    try {
+      return interactiveActive > 0 || !waiting.isEmpty();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean accept(OllamaPriority priority, OllamaGenerateResponse chunk, Predicate<String> onToken) {
+    if (chunk.error() != null) {
+      throw new IllegalStateException("Ollama 오류: " + chunk.error());
+    }
+    if (chunk.done()) {
+      recordMetrics(priority, chunk);
+      return false;
+    }
+    return chunk.response() == null || onToken.test(chunk.response());
+  }
+
+  private static RuntimeException streamFailure(Throwable ex) {
+    if (ex instanceof WebClientResponseException response) {
+      return new IllegalStateException("Ollama 응답 오류: " + response.getStatusCode().value(), ex);
+    }
+    if (ex instanceof IllegalStateException state) {
+      return state;
+    }
+    return new IllegalStateException("Ollama 호출 실패: " + ex.getMessage(), ex);
+  }
+
+  private void recordMetrics(OllamaPriority priority, OllamaGenerateResponse response) {
+    if (response.prompt_eval_duration() == null && response.eval_duration() == null) {
+      return;
+    }
+    long promptTokens = response.prompt_eval_count() == null ? 0 : response.prompt_eval_count();
+    long promptNanos = response.prompt_eval_duration() == null ? 0 : response.prompt_eval_duration();
+    long evalTokens = response.eval_count() == null ? 0 : response.eval_count();
+    long evalDurationNanos = response.eval_duration() == null ? 0 : response.eval_duration();
+    logger.info("Ollama {} call: prompt_eval_count={} prompt_eval_ms={} eval_count={} eval_ms={} load_ms={}",
+        priority,
+        promptTokens,
+        TimeUnit.NANOSECONDS.toMillis(promptNanos),
+        evalTokens,
+        TimeUnit.NANOSECONDS.toMillis(evalDurationNanos),
+        response.load_duration() == null ? 0 : TimeUnit.NANOSECONDS.toMillis(response.load_duration()));
+  }
+
+  private <T> T withPermit(OllamaPriority priority, Supplier<T> call) {
+    acquire(priority);
+    long started = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      release(priority, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+  }
+
+  private void acquire(OllamaPriority priority) {
+    CompletableFuture<Void> permit = acquireAsync(priority);
+    try {
+      permit.get();
+    } catch (InterruptedException ex) {
+      if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+        release(priority, -1);
+      }
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Ollama 요청 대기 중 중단되었습니다.", ex);
+    } catch (ExecutionException ex) {
+      throw unwrap(ex);
+    }
+  }
+
+  private CompletableFuture<Void> acquireAsync(OllamaPriority priority) {
+    lock.lock();
+    try {
+      if (active < limitFor(priority) && (waiting.isEmpty() || priority.compareTo(waiting.peek().priority()) < 0)) {
+        grant(priority);
+        return CompletableFuture.completedFuture(null);
+      }
+      if (waiting.size() >= queueCapacity) {
+        return CompletableFuture.failedFuture(new OllamaBusyException(estimateRetryAfterSeconds()));
+      }
+
+      Waiter waiter = new Waiter(priority, sequence++, new CompletableFuture<>());
+      waiting.add(waiter);
+      CompletableFuture.delayedExecutor(queueTimeoutMs, TimeUnit.MILLISECONDS).execute(() ->
+          waiter.permit().completeExceptionally(new OllamaBusyException(estimateRetryAfterSeconds())));
+      waiter.permit().whenComplete((ignored, ex) -> {
+        if (ex != null) {
+          abandon(waiter);
+        }
+      });
+      return waiter.permit();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void abandon(Waiter waiter) {
+    List<Waiter> granted;
+    lock.lock();
+    try {
+      waiting.remove(waiter);
+      granted = dispatch();
+    } finally {
+      lock.unlock();
+    }
+    complete(granted);
+  }
+
+  private List<Waiter> dispatch() {
+    List<Waiter> granted = new ArrayList<>();
+    while (!waiting.isEmpty() && active < limitFor(waiting.peek().priority())) {
+      Waiter waiter = waiting.poll();
+      grant(waiter.priority());
+      granted.add(waiter);
+    }
+    return granted;
+  }
+
+  private void complete(List<Waiter> granted) {
+    for (Waiter waiter : granted) {
+      if (!waiter.permit().complete(null)) {
+        release(waiter.priority(), -1);
+      }
+    }
+  }
+
+  private int limitFor(OllamaPriority priority) {
+    return priority == OllamaPriority.REFILL ? 1 : maxConcurrency;
+  }
+
+  private void grant(OllamaPriority priority) {
+    active++;
+    if (priority != OllamaPriority.REFILL) {
+      interactiveActive++;
+    }
+  }
+
+  private void release(OllamaPriority priority, long elapsedMs) {
+    List<Waiter> granted;
+    lock.lock();
+    try {
+      active--;
+      if (priority != OllamaPriority.REFILL) {
+        interactiveActive--;
+      }
+      if (elapsedMs >= 0) {
+        averageCallMs = averageCallMs * 0.8 + elapsedMs * 0.2;
+      }
+      granted = dispatch();
+    } finally {
+      lock.unlock();
+    }
+    complete(granted);
+  }
+
+  private long estimateRetryAfterSeconds() {
+    lock.lock();
+    try {
+      double rounds = (double) (waiting.size() + active) / maxConcurrency;
+      return Math.max(1, (long) Math.ceil(rounds * averageCallMs / 1000.0));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable ex) {
+    Throwable cause = ex;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof RuntimeException runtime) {
+      return runtime;
+    }
+    return new IllegalStateException("Ollama 호출 실패: " + cause.getMessage(), cause);
+  }
+
+  private Map<String, Object> buildGenerateBody(OllamaPrompt prompt, Object format, boolean stream) {
+    Map<String, Object> body = new HashMap<>();
+    body.put("model", model);
+    body.put("system", prompt.system());
+    body.put("prompt", prompt.prompt());
+    body.put("keep_alive", keepAlive);
+    body.put("stream", stream);
+    body.put("format", format);
+    body.put("options", Map.of("temperature", 0.2));
+    return body;
+  }
+
+  private record Waiter(
+      OllamaPriority priority,
+      long sequence,
+      CompletableFuture<Void> permit
+  ) implements Comparable<Waiter> {
+    @Override
+    public int compareTo(Waiter other) {
+      int byPriority = priority.compareTo(other.priority);
+      return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+    }
+  }
+
+  private record OllamaGenerateResponse(
+      String response,
+      boolean done,
+      String error,
+      Long prompt_eval_count,
+      Long prompt_eval_duration,
+      Long eval_count,
+      Long eval_duration,
+      Long load_duration
+  ) {
+  }
+}
@@ -0,0 +1,4 @@
+package com.example.rest.exam;
+
+public record OllamaPrompt(String system, String prompt) {
+}
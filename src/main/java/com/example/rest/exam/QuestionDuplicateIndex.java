@@ -0,0 +1,319 @@
+package com.example.rest.exam;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QuestionDuplicateIndex {
+  private static final Logger logger = LoggerFactory.getLogger(QuestionDuplicateIndex.class);
+  private static final int SHINGLE_LENGTH = 3;
+  private static final int BANDS = 8;
+  private static final int ROWS_PER_BAND = 4;
+  private static final int HASHES = BANDS * ROWS_PER_BAND;
+  private static final int[] MULTIPLIERS = new int[HASHES];
+  private static final int[] OFFSETS = new int[HASHES];
+
+  static {
+    SplittableRandom random = new SplittableRandom(0x5EED_D0C5L);
+    for (int i = 0; i < HASHES; i++) {
+      MULTIPLIERS[i] = random.nextInt() | 1;
+      OFFSETS[i] = random.nextInt();
+    }
+  }
+
+  private final ExamExampleCache exampleCache;
+  private final ExamAiRepository examAiRepository;
+  private final boolean enabled;
+  private final double threshold;
+  private final int loadPageSize;
+  private final int maxPerCategory;
+  private final Map<String, Shard> shards = new ConcurrentHashMap<>();
+  private final AtomicLong rejected = new AtomicLong();
+  private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "question-dedup-load");
+    thread.setDaemon(true);
+    thread.setPriority(Thread.MIN_PRIORITY);
+    return thread;
+  });
+
+  public QuestionDuplicateIndex(
+      ExamExampleCache exampleCache,
+      ExamAiRepository examAiRepository,
+      @Value("${app.exam-ai.dedup.enabled:true}") boolean enabled,
+      @Value("${app.exam-ai.dedup.threshold:0.8}") double threshold,
+      @Value("${app.exam-ai.dedup.load-page-size:1000}") int loadPageSize,
+      @Value("${app.exam-ai.dedup.max-per-category:50000}") int maxPerCategory
+  ) {
+    this.exampleCache = exampleCache;
+    this.examAiRepository = examAiRepository;
+    this.enabled = enabled;
+    this.threshold = threshold;
+    this.loadPageSize = Math.max(1, loadPageSize);
+    this.maxPerCategory = Math.max(1, maxPerCategory);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (enabled) {
+      loader.execute(this::load);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    loader.shutdownNow();
+  }
+
+  public boolean isDuplicate(String category, String questionText, Long userId) {
+    if (!enabled || category == null || questionText == null) {
+      return false;
+    }
+    Shard shard = shards.get(key(category));
+    return shard != null && shard.contains(new Entry(userId, signature(questionText)), threshold);
+  }
+
+  public Reservation reserve(String category, String questionText, Long userId) {
+    if (!enabled || category == null || questionText == null) {
+      return Reservation.NONE;
+    }
+    Shard shard = shard(category);
+    Entry entry = new Entry(userId, signature(questionText));
+    if (!shard.addIfAbsent(entry, threshold)) {
+      long total = rejected.incrementAndGet();
+      if (total == 1 || total % 100 == 0) {
+        logger.info("Dropped near-duplicate generated question ({} so far).", total);
+      }
+      return null;
+    }
+    return new Reservation(shard, entry);
+  }
+
+  private void load() {
+    long started = System.nanoTime();
+    int loaded = 0;
+    try {
+      exampleCache.refresh();
+      for (ExamExample example : exampleCache.entries()) {
+        if (example.category() != null && example.questionText() != null) {
+          shard(example.category()).add(new Entry(null, signature(example.questionText())), false);
+          loaded++;
+        }
+      }
+
+      long afterId = 0;
+      while (!Thread.currentThread().isInterrupted()) {
+        List<ExamAiQuestionText> page = examAiRepository.findQuestionTextsAfter(afterId, PageRequest.of(0, loadPageSize));
+        for (ExamAiQuestionText row : page) {
+          afterId = row.getId();
+          if (row.getCategory() != null && row.getQuestionText() != null) {
+            shard(row.getCategory()).add(new Entry(row.getUserId(), signature(row.getQuestionText())), true);
+            loaded++;
+          }
+        }
+        if (page.size() < loadPageSize) {
+          break;
+        }
+      }
+      logger.info("Question duplicate index loaded {} questions in {} ms.", loaded, (System.nanoTime() - started) / 1_000_000);
+    } catch (RuntimeException ex) {
+      logger.warn("Question duplicate index load stopped after {} questions: {}", loaded, ex.getMessage());
+    }
+  }
+
+  private Shard shard(String category) {
+    return shards.computeIfAbsent(key(category), k -> new Shard(maxPerCategory));
+  }
+
+  static int[] signature(String questionText) {
+    String text = AnswerText.canonical(questionText);
+    int[] signature = new int[HASHES];
+    Arrays.fill(signature, Integer.MAX_VALUE);
+    if (text.length() < SHINGLE_LENGTH) {
+      addShingle(signature, text.hashCode());
+      return signature;
+    }
+    for (int i = 0; i + SHINGLE_LENGTH <= text.length(); i++) {
+      int shingle = (text.charAt(i) * 31 + text.charAt(i + 1)) * 31 + text.charAt(i + 2);
+      addShingle(signature, shingle);
+    }
+    return signature;
+  }
+
+  static double similarity(int[] left, int[] right) {
+    int matches = 0;
+    for (int i = 0; i < HASHES; i++) {
+      if (left[i] == right[i]) {
+        matches++;
+      }
+    }
+    return (double) matches / HASHES;
+  }
+
+  private static void addShingle(int[] signature, int shingle) {
+    for (int i = 0; i < HASHES; i++) {
+      int hash = mix(shingle * MULTIPLIERS[i] + OFFSETS[i]);
+      if (hash < signature[i]) {
+        signature[i] = hash;
+      }
+    }
+  }
+
+  private static int mix(int value) {
+    value ^= value >>> 16;
+    value *= 0x7feb352d;
+    value ^= value >>> 15;
+    value *= 0x846ca68b;
+    return value ^ (value >>> 16);
+  }
+
+  private static long bandKey(int[] signature, int band) {
+    long key = band;
+    for (int i = band * ROWS_PER_BAND; i < (band + 1) * ROWS_PER_BAND; i++) {
+      key = key * 0x9E3779B97F4A7C15L + signature[i];
+    }
+    return key;
+  }
+
+  private static String key(String category) {
+    return category.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private record Entry(Long userId, int[] signature) {}
+
+  public static final class Reservation {
+    static final Reservation NONE = new Reservation(null, null);
+
+    private final Shard shard;
+    private final Entry entry;
+
+    private Reservation(Shard shard, Entry entry) {
+      this.shard = shard;
+      this.entry = entry;
+    }
+
+    public void release() {
+      if (shard != null) {
+        shard.remove(entry);
+      }
+    }
+  }
+
+  // Generated questions are evicted oldest first once a category holds capacity of them; exam examples
+  // are bounded by the exam table and stay pinned.
+  private static final class Shard {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    private final Set<Entry> evictionOrder = new LinkedHashSet<>();
+    private final int capacity;
+
+    private Shard(int capacity) {
+      this.capacity = capacity;
+    }
+
+    private boolean contains(Entry entry, double threshold) {
+      lock.readLock().lock();
+      try {
+        return findMatch(entry, threshold);
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private boolean addIfAbsent(Entry entry, double threshold) {
+      lock.writeLock().lock();
+      try {
+        if (findMatch(entry, threshold)) {
+          return false;
+        }
+        insert(entry, true);
+        return true;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private void add(Entry entry, boolean evictable) {
+      lock.writeLock().lock();
+      try {
+        insert(entry, evictable);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private void remove(Entry entry) {
+      lock.writeLock().lock();
+      try {
+        unlink(entry);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private void unlink(Entry entry) {
+      evictionOrder.remove(entry);
+      for (int band = 0; band < BANDS; band++) {
+        long bandKey = bandKey(entry.signature(), band);
+        List<Entry> candidates = buckets.get(bandKey);
+        if (candidates != null) {
+          candidates.removeIf(candidate -> candidate == entry);
+          if (candidates.isEmpty()) {
+            buckets.remove(bandKey);
+          }
+        }
+      }
+    }
+
+    private boolean findMatch(Entry entry, double threshold) {
+      for (int band = 0; band < BANDS; band++) {
+        List<Entry> candidates = buckets.get(bandKey(entry.signature(), band));
+        if (candidates == null) {
+          continue;
+        }
+        for (Entry candidate : candidates) {
+          if ((candidate.userId() == null || candidate.userId().equals(entry.userId()))
+              && similarity(entry.signature(), candidate.signature()) >= threshold) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    private void insert(Entry entry, boolean evictable) {
+      for (int band = 0; band < BANDS; band++) {
+        buckets.computeIfAbsent(bandKey(entry.signature(), band), k -> new ArrayList<>(1)).add(entry);
+      }
+      if (evictable) {
+        evictionOrder.add(entry);
+        if (evictionOrder.size() > capacity) {
+          Iterator<Entry> oldest = evictionOrder.iterator();
+          Entry evicted = oldest.next();
+          oldest.remove();
+          unlink(evicted);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.rest.exam;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+final class StreamingItemParser {
+  private final ObjectMapper objectMapper;
+  private final Consumer<GeneratedExamItem> onItem;
+  private final boolean lenient;
+  private final Deque<Character> containers = new ArrayDeque<>();
+  private final StringBuilder element = new StringBuilder();
+  private int elementDepth = -1;
+  private boolean inString;
+  private boolean escaped;
+
+  StreamingItemParser(ObjectMapper objectMapper, Consumer<GeneratedExamItem> onItem) {
+    this(objectMapper, onItem, false);
+  }
+
+  StreamingItemParser(ObjectMapper objectMapper, Consumer<GeneratedExamItem> onItem, boolean lenient) {
+    this.objectMapper = objectMapper;
+    this.onItem = onItem;
+    this.lenient = lenient;
+  }
+
+  void feed(CharSequence chunk) {
+    for (int i = 0; i < chunk.length(); i++) {
+      accept(chunk.charAt(i));
+    }
+  }
+
+  private void accept(char c) {
+    boolean capturing = elementDepth >= 0;
+    if (capturing) {
+      element.append(c);
+    }
+
+    if (inString) {
+      if (escaped) {
+        escaped = false;
+      } else if (c == '\\') {
+        escaped = true;
+      } else if (c == '"') {
+        inString = false;
+      }
+      return;
+    }
+
+    switch (c) {
+      case '"' -> {
+        if (!containers.isEmpty()) {
+          inString = true;
+        }
+      }
+      case '[' -> containers.push('[');
+      case '{' -> {
+        if (!capturing && !containers.isEmpty() && containers.peek() == '[') {
+          elementDepth = containers.size();
+          element.setLength(0);
+          element.append(c);
+        }
+        containers.push('{');
+      }
+      case ']', '}' -> {
+        if (containers.isEmpty()) {
+          return;
+        }
+        containers.pop();
+        if (capturing && c == '}' && containers.size() == elementDepth) {
+          emit();
+        }
+      }
+      default -> {
+      }
+    }
+  }
+
+  private void emit() {
+    elementDepth = -1;
+    GeneratedExamItem item;
+    try {
+      item = objectMapper.readValue(element.toString(), GeneratedExamItem.class);
+    } catch (Exception ex) {
+      if (lenient) {
+        return;
+      }
+      throw new IllegalStateException("JSON 파싱 실패: " + ex.getMessage(), ex);
+    } finally {
+      element.setLength(0);
+    }
+    onItem.accept(item);
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.rest.exam;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(20)
+public class TextVariantStage implements GradingStage {
+  private final double ambiguousSimilarity;
+
+  public TextVariantStage(@Value("${app.exam-ai.grading.ambiguous-similarity:0.5}") double ambiguousSimilarity) {
+    this.ambiguousSimilarity = ambiguousSimilarity;
+  }
+
+  @Override
+  public GradingVerdict evaluate(GradingCase gradingCase) {
+    String answer = AnswerText.canonical(gradingCase.answer());
+    if (answer.isEmpty()) {
+      return GradingVerdict.WRONG;
+    }
+
+    double best = 0;
+    for (String variant : AnswerText.variants(gradingCase.expected(), gradingCase.aliases())) {
+      if (variant.equals(answer)) {
+        return GradingVerdict.CORRECT;
+      }
+      best = Math.max(best, AnswerText.bigramSimilarity(answer, variant));
+    }
+    return best >= ambiguousSimilarity ? GradingVerdict.UNDECIDED : GradingVerdict.WRONG;
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.rest.exam;
+
+public enum VerificationStatus {
+  VERIFIED,
+  CORRECTED,
+  REJECTED,
+  SKIPPED
+}
@@ -0,0 +1,10 @@
+package com.example.rest.exam.dto;
+
+public record ExamAiJobItem(
+    Long id,
+    String category,
+    String question_text,
+    String answer_text,
+    String explanation
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.rest.exam.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ExamAiJobResponse(
+    String id,
+    String status,
+    String category,
+    int count,
+    int saved_count,
+    String error,
+    Instant created_at,
+    Instant finished_at,
+    List<ExamAiJobItem> items
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.rest.exam.dto;
+
+public record ExamStatsItem(
+    String category,
+    long attempts,
+    long correct
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.rest.exam.dto;
+
+import java.util.List;
+
+public record ExamStatsResponse(
+    List<ExamStatsItem> items
+) {
+}
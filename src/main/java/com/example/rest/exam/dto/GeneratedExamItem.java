@@ -4,6 +4,7 @@ public record GeneratedExamItem(
     String category,
     String question_text,
     String answer_text,
-    String explanation
+    String explanation,
+    String answer_aliases
 ) {
 }
@@ -4,6 +4,7 @@ public record GradeExamItem(
     Long id,
     boolean is_correct,
     String user_answer,
-    String answer_text
+    String answer_text,
+    boolean is_withdrawn
 ) {
 }
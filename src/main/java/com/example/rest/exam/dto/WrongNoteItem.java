@@ -1,11 +1,25 @@
 package com.example.rest.exam.dto;
 
+import java.time.Instant;
+
 public record WrongNoteItem(
     Long id,
+    Long attempt_id,
     String category,
     String question_text,
     String answer_text,
     String user_answer,
-    String explanation
+    String explanation,
+    Instant attempted_at
 ) {
+  public WrongNoteItem(
+      Long id,
+      Long attempt_id,
+      String category,
+      String answer_text,
+      String user_answer,
+      Instant attempted_at
+  ) {
+    this(id, attempt_id, category, null, answer_text, user_answer, null, attempted_at);
+  }
 }
@@ -3,6 +3,7 @@ package com.example.rest.exam.dto;
 import java.util.List;
 
 public record WrongNoteResponse(
-    List<WrongNoteItem> items
+    List<WrongNoteItem> items,
+    String next_cursor
 ) {
 }
@@ -0,0 +1,7 @@
+package com.example.rest.user;
+
+public interface UserCredential {
+  String getUsername();
+
+  String getPassword();
+}
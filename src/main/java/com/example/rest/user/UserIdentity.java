@@ -0,0 +1,7 @@
+package com.example.rest.user;
+
+public interface UserIdentity {
+  String getUsername();
+
+  String getEmail();
+}
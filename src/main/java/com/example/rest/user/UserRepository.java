@@ -1,13 +1,29 @@
 package com.example.rest.user;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByUsername(String username);
 
-  boolean existsByUsername(String username);
+  List<UserIdentity> findByUsernameOrEmail(String username, String email);
 
-  boolean existsByEmail(String email);
+  List<UserIdentity> findByUsernameInOrEmailIn(Collection<String> usernames, Collection<String> emails);
 
+  List<UserCredential> findByUsernameIn(Collection<String> usernames);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+  int updatePasswordIfUnchanged(
+    @Param("id") Long id,
+    @Param("oldHash") String oldHash,
+    @Param("newHash") String newHash
+  );
 }
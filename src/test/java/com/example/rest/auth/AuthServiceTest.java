@@ -0,0 +1,77 @@
+package com.example.rest.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.rest.auth.dto.AuthTokens;
+import com.example.rest.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+class AuthServiceTest {
+  private JwtService jwtService;
+  private RevokedTokenRepository revokedTokenRepository;
+  private JdbcTemplate jdbcTemplate;
+  private AuthService authService;
+
+  @BeforeEach
+  void setUp() {
+    jwtService = new JwtService("test-secret-test-secret-test-secret-32", "test", "", 60_000, 3_600_000);
+    revokedTokenRepository = mock(RevokedTokenRepository.class);
+    jdbcTemplate = mock(JdbcTemplate.class);
+    when(jdbcTemplate.update(anyString(), any(), any(), any())).thenReturn(1);
+    TokenRevocationStore store = new TokenRevocationStore(
+        revokedTokenRepository, jdbcTemplate, 1_000, 0.01, 30_000, 3_600_000);
+    authService = new AuthService(mock(UserRepository.class), mock(PasswordHasher.class), jwtService, store);
+  }
+
+  @Test
+  void rotatesRefreshTokenWithinTheSameFamily() {
+    String refreshToken = jwtService.generateRefreshToken("user", 1L);
+
+    AuthTokens tokens = authService.refresh(refreshToken);
+
+    assertThat(family(tokens.refreshToken())).isEqualTo(family(refreshToken));
+    assertThat(jwtService.parseClaims(tokens.refreshToken()).getId())
+        .isNotEqualTo(jwtService.parseClaims(refreshToken).getId());
+  }
+
+  @Test
+  void reusedRefreshTokenRevokesTheWholeFamily() {
+    String refreshToken = jwtService.generateRefreshToken("user", 1L);
+    String jti = jwtService.parseClaims(refreshToken).getId();
+    String family = family(refreshToken);
+    AuthTokens rotated = authService.refresh(refreshToken);
+    when(jdbcTemplate.update(anyString(), eq(jti), any(), any())).thenReturn(0);
+    when(revokedTokenRepository.existsById(family)).thenReturn(true);
+
+    assertThatThrownBy(() -> authService.refresh(refreshToken))
+        .isInstanceOfSatisfying(ResponseStatusException.class,
+            ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED))
+        .hasMessageContaining("이미 사용된 리프레시 토큰입니다");
+    assertThatThrownBy(() -> authService.refresh(rotated.refreshToken()))
+        .isInstanceOfSatisfying(ResponseStatusException.class,
+            ex -> assertThat(ex.getReason()).isEqualTo("리프레시 토큰이 유효하지 않습니다"));
+  }
+
+  @Test
+  void rejectsAccessTokens() {
+    String accessToken = jwtService.generateAccessToken("user", 1L);
+
+    assertThatThrownBy(() -> authService.refresh(accessToken))
+        .isInstanceOfSatisfying(ResponseStatusException.class,
+            ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+  }
+
+  private String family(String token) {
+    return jwtService.extractFamily(jwtService.parseClaims(token));
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.rest.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RevocationBloomFilterTest {
+  @Test
+  void neverForgetsAddedIds() {
+    RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.add("token-" + i);
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(filter.mightContain("token-" + i)).isTrue();
+    }
+  }
+
+  @Test
+  void falsePositiveRateStaysNearTheConfiguredRateAtCapacity() {
+    RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.add(UUID.randomUUID().toString());
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain(UUID.randomUUID().toString())) {
+        falsePositives++;
+      }
+    }
+
+    assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+  }
+
+  @Test
+  void emptyFilterContainsNothing() {
+    RevocationBloomFilter filter = new RevocationBloomFilter(100, 0.01);
+
+    assertThat(filter.mightContain("token")).isFalse();
+    assertThat(filter.mightContain("")).isFalse();
+  }
+
+  @Test
+  void clampsOutOfRangeSettings() {
+    RevocationBloomFilter filter = new RevocationBloomFilter(0, 0);
+    filter.add("token");
+
+    assertThat(filter.mightContain("token")).isTrue();
+    assertThat(new RevocationBloomFilter(-5, 2.0).mightContain("token")).isFalse();
+  }
+
+  @Test
+  void concurrentAddsSettingBitsInTheSameWordAreAllKept() throws Exception {
+    RevocationBloomFilter filter = new RevocationBloomFilter(1, 0.5);
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    for (int t = 0; t < 8; t++) {
+      int thread = t;
+      pool.execute(() -> {
+        for (int i = 0; i < 1_000; i++) {
+          filter.add("t" + thread + "-" + i);
+        }
+      });
+    }
+    pool.shutdown();
+    assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    for (int t = 0; t < 8; t++) {
+      for (int i = 0; i < 1_000; i++) {
+        assertThat(filter.mightContain("t" + t + "-" + i)).isTrue();
+      }
+    }
+  }
+}
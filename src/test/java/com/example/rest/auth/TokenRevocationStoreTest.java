@@ -0,0 +1,88 @@
+package com.example.rest.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class TokenRevocationStoreTest {
+  private RevokedTokenRepository repository;
+  private JdbcTemplate jdbcTemplate;
+  private TokenRevocationStore store;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(RevokedTokenRepository.class);
+    jdbcTemplate = mock(JdbcTemplate.class);
+    store = new TokenRevocationStore(repository, jdbcTemplate, 1_000, 0.01, 30_000, 3_600_000);
+  }
+
+  @Test
+  void firstRevocationWins() {
+    when(jdbcTemplate.update(anyString(), eq("jti-1"), any(), any())).thenReturn(1);
+
+    assertThat(store.revoke("jti-1", Instant.now().plusSeconds(60))).isTrue();
+  }
+
+  @Test
+  void revokingAnAlreadyRevokedIdReportsReuse() {
+    when(jdbcTemplate.update(anyString(), eq("jti-1"), any(), any())).thenReturn(1).thenReturn(0);
+    when(repository.existsById("jti-1")).thenReturn(true);
+
+    store.revoke("jti-1", Instant.now().plusSeconds(60));
+
+    assertThat(store.revoke("jti-1", Instant.now().plusSeconds(60))).isFalse();
+    assertThat(store.isRevoked("jti-1")).isTrue();
+  }
+
+  @Test
+  void unknownIdsSkipTheDatabase() {
+    assertThat(store.isRevoked("never-revoked")).isFalse();
+    assertThat(store.isRevoked(null)).isFalse();
+
+    verify(repository, never()).existsById(any());
+  }
+
+  @Test
+  void filterHitsAreConfirmedByTheDatabase() {
+    store.revoke("jti-1", Instant.now().plusSeconds(60));
+    when(repository.existsById("jti-1")).thenReturn(false);
+
+    assertThat(store.isRevoked("jti-1")).isFalse();
+    verify(repository).existsById("jti-1");
+  }
+
+  @Test
+  void syncPicksUpRevocationsFromOtherInstances() {
+    when(repository.findIdsRevokedSince(any())).thenReturn(List.of("elsewhere"));
+    when(repository.existsById("elsewhere")).thenReturn(true);
+
+    store.sync();
+
+    assertThat(store.isRevoked("elsewhere")).isTrue();
+  }
+
+  @Test
+  void pruneRebuildsTheFilterFromLiveIds() {
+    store.revoke("expired", Instant.now().minusSeconds(60));
+    when(repository.findLiveIds(any())).thenReturn(List.of("live"));
+    when(repository.existsById("live")).thenReturn(true);
+
+    store.sync();
+
+    verify(repository).deleteExpired(any());
+    assertThat(store.isRevoked("live")).isTrue();
+    assertThat(store.isRevoked("expired")).isFalse();
+    verify(repository, never()).existsById("expired");
+  }
+}
@@ -0,0 +1,94 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+class AnswerGraderTest {
+  @Test
+  void stagesRunInDeclaredOrder() {
+    List<GradingStage> stages = new ArrayList<>(List.of(
+        new TextVariantStage(0.5), new CodingOutputStage(), new ExactAnswerStage()));
+
+    AnnotationAwareOrderComparator.sort(stages);
+
+    assertThat(stages).extracting(stage -> stage.getClass().getSimpleName())
+        .containsExactly("ExactAnswerStage", "CodingOutputStage", "TextVariantStage");
+  }
+
+  @Test
+  void firstDecidingStageWins() {
+    GradingStage later = mock(GradingStage.class);
+    AnswerGrader grader = new AnswerGrader(
+        List.of(gradingCase -> GradingVerdict.UNDECIDED, gradingCase -> GradingVerdict.CORRECT, later),
+        Optional.empty());
+
+    assertThat(grader.evaluate(gradingCase(1L, "Theory", "a", "b"))).isEqualTo(GradingVerdict.CORRECT);
+    verify(later, never()).evaluate(any());
+  }
+
+  @Test
+  void gradesWithTheRealStages() {
+    AnswerGrader grader = new AnswerGrader(stages(), Optional.empty());
+
+    boolean[] correct = grader.grade(List.of(
+        gradingCase(1L, "Theory", "인덱스(색인) 접근", "색인 접근"),
+        gradingCase(2L, "Java", "1\n2", "1 2"),
+        gradingCase(3L, "Python", "1  2", "1 2"),
+        gradingCase(4L, "Theory", "데이터베이스 인덱스", "네트워크")));
+
+    assertThat(correct).containsExactly(true, false, true, false);
+  }
+
+  @Test
+  void sendsOnlyUndecidedAnswersToTheJudge() {
+    AnswerJudge judge = mock(AnswerJudge.class);
+    GradingCase close = gradingCase(2L, "Theory", "데이터베이스 인덱스", "데이터베이스 인덱");
+    when(judge.judge(List.of(close))).thenReturn(Map.of(2L, true));
+    AnswerGrader grader = new AnswerGrader(stages(), Optional.of(judge));
+
+    boolean[] correct = grader.grade(List.of(
+        gradingCase(1L, "Theory", "TCP", "tcp"),
+        close,
+        gradingCase(3L, "Theory", "데이터베이스 인덱스", "네트워크")));
+
+    assertThat(correct).containsExactly(true, true, false);
+    verify(judge).judge(List.of(close));
+  }
+
+  @Test
+  void skipsTheJudgeWhenEverythingIsDecided() {
+    AnswerJudge judge = mock(AnswerJudge.class);
+    AnswerGrader grader = new AnswerGrader(stages(), Optional.of(judge));
+
+    grader.grade(List.of(gradingCase(1L, "Theory", "TCP", "tcp")));
+
+    verify(judge, never()).judge(any());
+  }
+
+  @Test
+  void undecidedAnswersAreWrongWithoutAJudge() {
+    AnswerGrader grader = new AnswerGrader(stages(), Optional.empty());
+
+    assertThat(grader.grade(List.of(gradingCase(1L, "Theory", "데이터베이스 인덱스", "데이터베이스 인덱"))))
+        .containsExactly(false);
+  }
+
+  private static List<GradingStage> stages() {
+    return List.of(new ExactAnswerStage(), new CodingOutputStage(), new TextVariantStage(0.5));
+  }
+
+  private static GradingCase gradingCase(Long id, String category, String expected, String answer) {
+    return new GradingCase(id, category, expected, null, answer);
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AnswerTextTest {
+  @Test
+  void canonicalFoldsWidthCaseSpacingAndPunctuation() {
+    assertThat(AnswerText.canonical("ＴＣＰ / Ｉｐ ")).isEqualTo("tcp/ip");
+    assertThat(AnswerText.canonical(" \"Hash Map\". ")).isEqualTo("hashmap");
+    assertThat(AnswerText.canonical("①")).isEqualTo("1");
+  }
+
+  @Test
+  void canonicalKeepsPunctuationBetweenDigits() {
+    assertThat(AnswerText.canonical("3.14")).isEqualTo("3.14");
+    assertThat(AnswerText.canonical("1,000")).isEqualTo("1,000");
+    assertThat(AnswerText.canonical("O(n).")).isEqualTo("on");
+  }
+
+  @Test
+  void variantsDropOrSubstituteParentheticals() {
+    assertThat(AnswerText.variants("인덱스(색인) 접근", null))
+        .containsExactly("인덱스색인접근", "인덱스접근", "색인접근");
+  }
+
+  @Test
+  void variantsIncludeAliasesWithoutDuplicates() {
+    assertThat(AnswerText.variants("B-Tree", "b-tree|비트리| |B트리"))
+        .containsExactly("b-tree", "비트리", "b트리");
+  }
+
+  @Test
+  void sameIgnoringLineEndingsOnlyIgnoresCarriageReturnsAndOuterWhitespace() {
+    assertThat(AnswerText.sameIgnoringLineEndings("  a\r\nb\r\n", "a\nb")).isTrue();
+    assertThat(AnswerText.sameIgnoringLineEndings("a  b", "a b")).isFalse();
+    assertThat(AnswerText.sameIgnoringLineEndings("A", "a")).isFalse();
+  }
+
+  @Test
+  void outputLinesCollapsesSpacesButKeepsLineBreaks() {
+    assertThat(AnswerText.outputLines("  1  2\r\n3\t\n\n4 \n")).isEqualTo("1 2\n3\n\n4");
+  }
+
+  @Test
+  void bigramSimilarity() {
+    assertThat(AnswerText.bigramSimilarity("인덱스", "인덱스")).isEqualTo(1.0);
+    assertThat(AnswerText.bigramSimilarity("데이터베이스인덱", "데이터베이스인덱스")).isEqualTo(14.0 / 15);
+    assertThat(AnswerText.bigramSimilarity("abc", "xyz")).isZero();
+    assertThat(AnswerText.bigramSimilarity("a", "a")).isEqualTo(1.0);
+  }
+}
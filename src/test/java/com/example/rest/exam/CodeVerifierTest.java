@@ -0,0 +1,169 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CodeVerifierTest {
+  private CodeSandbox sandbox;
+  private CodeVerifier verifier;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    sandbox = mock(CodeSandbox.class);
+    when(sandbox.run(anyString(), anyString())).thenReturn(ok("ok"));
+    when(sandbox.run(eq("c"), contains("printf(\"ok\\n\")"))).thenReturn(result(CodeSandbox.Status.COMPILE_ERROR, "no cc"));
+    when(sandbox.run("python", "print('ready')\n")).thenReturn(ok("ready"));
+    verifier = new CodeVerifier(sandbox, true, 1, 16, 100);
+    verifier.start();
+    awaitProbes();
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifier.stop();
+  }
+
+  @Test
+  void matchingOutputIsVerified() throws Exception {
+    when(sandbox.run("python", "print(1, 2)\n")).thenReturn(ok("1 2\n"));
+
+    assertThat(run("Python", "print(1, 2)", "1  2\r\n"))
+        .isEqualTo(new CodeVerification(VerificationStatus.VERIFIED, "1 2"));
+  }
+
+  @Test
+  void differentOutputCorrectsTheAnswer() throws Exception {
+    when(sandbox.run("python", "print(3)\n")).thenReturn(ok("3\n"));
+
+    assertThat(run("Python", "print(3)", "4"))
+        .isEqualTo(new CodeVerification(VerificationStatus.CORRECTED, "3"));
+  }
+
+  @Test
+  void failingOrSilentProgramsAreRejected() throws Exception {
+    when(sandbox.run("python", "compile error\n")).thenReturn(result(CodeSandbox.Status.COMPILE_ERROR, "SyntaxError"));
+    when(sandbox.run("python", "runtime error\n")).thenReturn(result(CodeSandbox.Status.RUNTIME_ERROR, "ZeroDivisionError"));
+    when(sandbox.run("python", "timeout\n")).thenReturn(result(CodeSandbox.Status.TIMEOUT, ""));
+    when(sandbox.run("python", "silent\n")).thenReturn(ok(" \n"));
+
+    for (String code : List.of("compile error", "runtime error", "timeout", "silent")) {
+      assertThat(run("Python", code, "1").status()).as(code).isEqualTo(VerificationStatus.REJECTED);
+    }
+  }
+
+  @Test
+  void unavailableSandboxSkips() throws Exception {
+    when(sandbox.run("python", "print(5)\n")).thenReturn(result(CodeSandbox.Status.UNAVAILABLE, ""));
+
+    assertThat(run("Python", "print(5)", "5")).isEqualTo(CodeVerification.SKIPPED);
+  }
+
+  @Test
+  void skipsWithoutCodeOrForUnprobedLanguages() throws Exception {
+    assertThat(verifier.verify("Python", "print(1)을 실행하면?", "1").get()).isEqualTo(CodeVerification.SKIPPED);
+    assertThat(run("C", "printf(\"1\");", "1")).isEqualTo(CodeVerification.SKIPPED);
+    assertThat(run("Theory", "print(1)", "1")).isEqualTo(CodeVerification.SKIPPED);
+    verify(sandbox, never()).run(eq("c"), contains("printf(\"1\")"));
+  }
+
+  @Test
+  void disabledVerifierSkipsEverything() throws Exception {
+    CodeVerifier disabled = new CodeVerifier(sandbox, false, 1, 16, 100);
+    disabled.start();
+
+    assertThat(disabled.verify("Python", question("print(1)"), "1").get()).isEqualTo(CodeVerification.SKIPPED);
+    disabled.stop();
+  }
+
+  @Test
+  void runsEachProgramOnce() throws Exception {
+    when(sandbox.run("python", "print(7)\n")).thenReturn(ok("7\n"));
+
+    assertThat(run("Python", "print(7)", "7").status()).isEqualTo(VerificationStatus.VERIFIED);
+    assertThat(run("python", "print(7)", "8").status()).isEqualTo(VerificationStatus.CORRECTED);
+
+    verify(sandbox, times(1)).run("python", "print(7)\n");
+  }
+
+  @Test
+  void verifyItemsKeepsCorrectsAndDrops() {
+    when(sandbox.run("python", "print(1)\n")).thenReturn(ok("1\n"));
+    when(sandbox.run("python", "print(2)\n")).thenReturn(ok("2\n"));
+    when(sandbox.run("python", "raise\n")).thenReturn(result(CodeSandbox.Status.RUNTIME_ERROR, ""));
+    GeneratedExamItem verified = item("print(1)", "1");
+    GeneratedExamItem wrongAnswer = item("print(2)", "3");
+    GeneratedExamItem broken = item("raise", "?");
+    GeneratedExamItem noCode = new GeneratedExamItem("Python", "파이썬의 특징은?", "인터프리터", "e", null);
+
+    List<GeneratedExamItem> items = verifier.verifyItems("Python", List.of(verified, wrongAnswer, broken, noCode), 5000);
+
+    assertThat(items).containsExactly(
+        verified,
+        new GeneratedExamItem("Python", wrongAnswer.question_text(), "2", "e", "a|b"),
+        noCode);
+  }
+
+  @Test
+  void extractsFencedCode() {
+    assertThat(CodeVerifier.extractCode("다음 코드의 출력은?\n```python\nprint(1)\n```\n")).isEqualTo("print(1)\n");
+    assertThat(CodeVerifier.extractCode("```python\n\n```")).isNull();
+    assertThat(CodeVerifier.extractCode("```python\nprint(1)")).isNull();
+    assertThat(CodeVerifier.extractCode("print(1)")).isNull();
+  }
+
+  @Test
+  void wrapsSnippetsInARunnableProgram() {
+    assertThat(CodeVerifier.prepare("java", "System.out.println(1);"))
+        .contains("public class Main {", "public static void main(String[] args)", "System.out.println(1);");
+    assertThat(CodeVerifier.prepare("java", "class A {}")).isEqualTo("class A {}");
+    assertThat(CodeVerifier.prepare("c", "printf(\"1\");"))
+        .startsWith("#include <stdio.h>")
+        .contains("int main(void) {\nprintf(\"1\");\nreturn 0;\n}");
+    assertThat(CodeVerifier.prepare("python", "print(1)")).isEqualTo("print(1)");
+  }
+
+  private CodeVerification run(String category, String code, String answer) throws Exception {
+    return verifier.verify(category, question(code), answer).get(5, TimeUnit.SECONDS);
+  }
+
+  private void awaitProbes() throws Exception {
+    for (int i = 0; i < 500; i++) {
+      if (verifier.verify("Python", question("print('ready')"), "ready").get(5, TimeUnit.SECONDS).status()
+          == VerificationStatus.VERIFIED) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("probes did not finish");
+  }
+
+  private static GeneratedExamItem item(String code, String answer) {
+    return new GeneratedExamItem("Python", question(code), answer, "e", "a|b");
+  }
+
+  private static String question(String code) {
+    return "다음 코드의 출력은?\n```python\n" + code + "\n```";
+  }
+
+  private static CodeSandbox.Result ok(String output) {
+    return result(CodeSandbox.Status.OK, output);
+  }
+
+  private static CodeSandbox.Result result(CodeSandbox.Status status, String output) {
+    return new CodeSandbox.Result(status, output);
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CodingOutputStageTest {
+  private final CodingOutputStage stage = new CodingOutputStage();
+
+  @Test
+  void collapsesRunsOfSpacesWithinLines() {
+    assertThat(stage.evaluate(gradingCase("Java", "1 2\n3", "1   2\t\r\n3\n"))).isEqualTo(GradingVerdict.CORRECT);
+  }
+
+  @Test
+  void lineBreaksStillMatter() {
+    assertThat(stage.evaluate(gradingCase("Python", "1\n2\n3", "1 2 3"))).isEqualTo(GradingVerdict.WRONG);
+  }
+
+  @Test
+  void decidesEveryCodingAnswer() {
+    assertThat(stage.evaluate(gradingCase(" c ", "10", "11"))).isEqualTo(GradingVerdict.WRONG);
+  }
+
+  @Test
+  void skipsOtherCategories() {
+    assertThat(stage.evaluate(gradingCase("Theory", "1 2", "1  2"))).isEqualTo(GradingVerdict.UNDECIDED);
+  }
+
+  private static GradingCase gradingCase(String category, String expected, String answer) {
+    return new GradingCase(1L, category, expected, null, answer);
+  }
+}
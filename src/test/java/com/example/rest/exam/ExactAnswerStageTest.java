@@ -0,0 +1,29 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ExactAnswerStageTest {
+  private final ExactAnswerStage stage = new ExactAnswerStage();
+
+  @Test
+  void matchesIgnoringLineEndingsAndOuterWhitespace() {
+    assertThat(stage.evaluate(gradingCase("Hello\nWorld", " Hello\r\nWorld\r\n"))).isEqualTo(GradingVerdict.CORRECT);
+  }
+
+  @Test
+  void leavesOtherDifferencesToLaterStages() {
+    assertThat(stage.evaluate(gradingCase("TCP", "tcp"))).isEqualTo(GradingVerdict.UNDECIDED);
+  }
+
+  @Test
+  void missingExpectedAnswerIsWrong() {
+    assertThat(stage.evaluate(gradingCase(null, "tcp"))).isEqualTo(GradingVerdict.WRONG);
+    assertThat(stage.evaluate(gradingCase(" ", " "))).isEqualTo(GradingVerdict.WRONG);
+  }
+
+  private static GradingCase gradingCase(String expected, String answer) {
+    return new GradingCase(1L, "Theory", expected, null, answer);
+  }
+}
@@ -0,0 +1,164 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExamAiGeneratorTest {
+  private OllamaClient ollamaClient;
+  private ExamAiGenerator generator;
+  private ExecutorService itemExecutor;
+  private final AtomicInteger tokensRead = new AtomicInteger();
+  private final List<String> tokenThreads = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    ExamExampleCache exampleCache = mock(ExamExampleCache.class);
+    when(exampleCache.sample(anyString(), anyInt()))
+        .thenReturn(List.of(new ExamExample(1L, "Theory", "질문", "- [Theory] 질문 => 정답\n")));
+    ollamaClient = mock(OllamaClient.class);
+    generator = new ExamAiGenerator(exampleCache, ollamaClient, new ObjectMapper());
+    itemExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "item-worker"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    itemExecutor.shutdownNow();
+  }
+
+  @Test
+  void keepsReadingUntilEnoughItemsAreAccepted() throws Exception {
+    streamItems(8);
+    List<String> seen = new CopyOnWriteArrayList<>();
+    AtomicInteger accepted = new AtomicInteger();
+
+    generator.generateSessionStream("Theory", 2, itemExecutor, batch -> {
+      String question = batch.items().get(0).question_text();
+      seen.add(question);
+      if (!question.equals("q0") && !question.equals("q1")) {
+        accepted.incrementAndGet();
+      }
+      return accepted.get() < 2;
+    }).get(5, TimeUnit.SECONDS);
+
+    assertThat(accepted).hasValue(2);
+    assertThat(seen).containsExactly("q0", "q1", "q2", "q3");
+    assertThat(tokensRead.get()).isLessThan(tokenCount(8));
+  }
+
+  @Test
+  void handlesItemsOnTheGivenExecutor() throws Exception {
+    streamItems(3);
+    List<String> itemThreads = new CopyOnWriteArrayList<>();
+
+    generator.generateSessionStream("Theory", 3, itemExecutor, batch -> {
+      itemThreads.add(Thread.currentThread().getName());
+      return true;
+    }).get(5, TimeUnit.SECONDS);
+
+    assertThat(itemThreads).hasSize(3).containsOnly("item-worker");
+    assertThat(tokenThreads).doesNotContain("item-worker");
+  }
+
+  @Test
+  void completesWhenTheStreamEndsShort() throws Exception {
+    streamItems(1);
+    AtomicInteger handled = new AtomicInteger();
+
+    generator.generateSessionStream("Theory", 5, itemExecutor, batch -> {
+      handled.incrementAndGet();
+      return true;
+    }).get(5, TimeUnit.SECONDS);
+
+    assertThat(handled).hasValue(1);
+  }
+
+  @Test
+  void failsAndStopsReadingWhenAnItemCannotBeHandled() {
+    streamItems(8);
+
+    CompletableFuture<Void> stream = generator.generateSessionStream("Theory", 5, itemExecutor, batch -> {
+      throw new IllegalStateException("저장 실패");
+    });
+
+    assertThatThrownBy(() -> stream.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("저장 실패");
+    assertThat(tokensRead.get()).isLessThan(tokenCount(8));
+  }
+
+  @Test
+  void asksForSpareItems() {
+    List<OllamaPrompt> prompts = new ArrayList<>();
+    when(ollamaClient.generateStreamAsync(any(), any(), any(), any())).thenAnswer(invocation -> {
+      prompts.add(invocation.getArgument(0));
+      return CompletableFuture.completedFuture(null);
+    });
+
+    generator.generateSessionStream("Theory", 3, itemExecutor, batch -> true).join();
+
+    assertThat(prompts.get(0).prompt()).contains("반드시 5개 항목을 출력한다.");
+  }
+
+  private void streamItems(int count) {
+    List<String> tokens = tokens(count);
+    when(ollamaClient.generateStreamAsync(any(), any(), any(), any())).thenAnswer(invocation -> {
+      Predicate<String> onToken = invocation.getArgument(3);
+      CompletableFuture<Void> result = new CompletableFuture<>();
+      Thread feeder = new Thread(() -> {
+        tokenThreads.add(Thread.currentThread().getName());
+        for (String token : tokens) {
+          tokensRead.incrementAndGet();
+          if (result.isDone() || !onToken.test(token)) {
+            break;
+          }
+          sleep();
+        }
+        result.complete(null);
+      }, "token-feeder");
+      feeder.start();
+      return result;
+    });
+  }
+
+  private static List<String> tokens(int count) {
+    List<String> tokens = new ArrayList<>();
+    tokens.add("[");
+    for (int i = 0; i < count; i++) {
+      String item = "{\"category\":\"Theory\",\"question_text\":\"q" + i + "\",\"answer_text\":\"a" + i
+          + "\",\"explanation\":\"e\"}";
+      tokens.add((i == 0 ? "" : ",") + item.substring(0, 20));
+      tokens.add(item.substring(20));
+    }
+    tokens.add("]");
+    return tokens;
+  }
+
+  private static int tokenCount(int items) {
+    return items * 2 + 2;
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(20);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class GeneratedItemJsonParserTest {
+  private final GeneratedItemJsonParser parser = new GeneratedItemJsonParser(new ObjectMapper());
+
+  @Test
+  void parsesArrayAfterLeadingProse() {
+    assertThat(parser.parse("다음은 요청한 문제입니다:\n[" + item("q1") + "," + item("q2") + "]\n감사합니다."))
+        .extracting(GeneratedExamItem::question_text)
+        .containsExactly("q1", "q2");
+  }
+
+  @Test
+  void parsesItemsWrappedInAnObject() {
+    assertThat(parser.parse("{\"note\":{\"x\":[1,2]},\"items\":[" + item("q1") + "]}"))
+        .extracting(GeneratedExamItem::question_text)
+        .containsExactly("q1");
+  }
+
+  @Test
+  void readsAllFieldsAndIgnoresUnknownOrNonTextValues() {
+    GeneratedExamItem item = parser.parse("[{\"category\":\"Theory\",\"question_text\":\"q\",\"answer_text\":\"a\","
+        + "\"explanation\":\"e\",\"answer_aliases\":[\"x\"],\"difficulty\":3,\"answer_text_note\":null}]").get(0);
+
+    assertThat(item).isEqualTo(new GeneratedExamItem("Theory", "q", "a", "e", null));
+  }
+
+  @Test
+  void keepsCompleteItemsOfATruncatedArray() {
+    String text = "[" + item("q1") + "," + item("q2") + ",{\"category\":\"Theory\",\"question_te";
+
+    assertThat(parser.parse(text))
+        .extracting(GeneratedExamItem::question_text)
+        .containsExactly("q1", "q2");
+  }
+
+  @Test
+  void skipsMalformedElements() {
+    String text = "[" + item("q1") + ",{\"category\": oops, \"question_text\":\"q2\"}," + item("q3") + "]";
+
+    assertThat(parser.parse(text))
+        .extracting(GeneratedExamItem::question_text)
+        .containsExactly("q1", "q3");
+  }
+
+  @Test
+  void failsWithoutJson() {
+    assertThatThrownBy(() -> parser.parse("죄송합니다. 문제를 만들 수 없습니다."))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("JSON 데이터를 찾지 못했습니다.");
+  }
+
+  @Test
+  void failsWhenNothingCanBeRecovered() {
+    assertThatThrownBy(() -> parser.parse("[{\"category\": oops"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageStartingWith("JSON 파싱 실패");
+  }
+
+  @Test
+  void failsOnEmptyArray() {
+    assertThatThrownBy(() -> parser.parse("[]"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("JSON 배열에 유효한 문제가 없습니다.");
+  }
+
+  private static String item(String question) {
+    return "{\"category\":\"Theory\",\"question_text\":\"" + question + "\",\"answer_text\":\"a\",\"explanation\":\"e\"}";
+  }
+}
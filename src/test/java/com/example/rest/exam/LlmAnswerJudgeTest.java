@@ -0,0 +1,80 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class LlmAnswerJudgeTest {
+  private OllamaClient ollamaClient;
+  private LlmAnswerJudge judge;
+
+  @BeforeEach
+  void setUp() {
+    ollamaClient = mock(OllamaClient.class);
+    ExamAiRepository examAiRepository = mock(ExamAiRepository.class);
+    when(examAiRepository.findQuestionTextByIdIn(anyList())).thenReturn(List.of());
+    judge = new LlmAnswerJudge(ollamaClient, examAiRepository, new ObjectMapper(), true, 20);
+  }
+
+  @Test
+  void returnsVerdictForEveryCase() {
+    when(ollamaClient.generate(any(), any(), any()))
+        .thenReturn("[{\"id\":1,\"correct\":true},{\"id\":2,\"correct\":false}]");
+
+    assertThat(judge.judge(List.of(gradingCase(1), gradingCase(2))))
+        .containsExactlyInAnyOrderEntriesOf(Map.of(1L, true, 2L, false));
+  }
+
+  @Test
+  void asksAgainOnlyForMissingVerdicts() {
+    when(ollamaClient.generate(any(), any(), any()))
+        .thenReturn("[{\"id\":1,\"correct\":true}]")
+        .thenReturn("[{\"id\":2,\"correct\":true}]");
+
+    assertThat(judge.judge(List.of(gradingCase(1), gradingCase(2))))
+        .containsExactlyInAnyOrderEntriesOf(Map.of(1L, true, 2L, true));
+    verify(ollamaClient, times(2)).generate(any(), any(), any());
+  }
+
+  @Test
+  void failsWithServiceUnavailableWhenVerdictsStayMissing() {
+    when(ollamaClient.generate(any(), any(), any())).thenReturn("[{\"id\":1,\"correct\":false}]");
+
+    assertThatThrownBy(() -> judge.judge(List.of(gradingCase(1), gradingCase(2))))
+        .isInstanceOfSatisfying(OllamaBusyException.class, ex -> {
+          assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+          assertThat(ex.getHeaders().getFirst("Retry-After")).isEqualTo("30");
+        });
+  }
+
+  @Test
+  void mapsBusyModelToTooManyRequests() {
+    when(ollamaClient.generate(any(), any(), any())).thenThrow(new OllamaBusyException(5));
+
+    assertThatThrownBy(() -> judge.judge(List.of(gradingCase(1))))
+        .isInstanceOfSatisfying(OllamaBusyException.class,
+            ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+  }
+
+  @Test
+  void ignoresProseAroundVerdictArray() {
+    assertThat(judge.parseVerdicts("결과입니다: [{\"id\":3,\"correct\":true},{\"id\":\"x\",\"correct\":true}]"))
+        .containsExactlyEntriesOf(Map.of(3L, true));
+  }
+
+  private static GradingCase gradingCase(long id) {
+    return new GradingCase(id, "Theory", "정답" + id, null, "답" + id);
+  }
+}
@@ -0,0 +1,265 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class OllamaClientTest {
+  private static final OllamaPrompt PROMPT = new OllamaPrompt("system", "prompt");
+
+  private HttpServer server;
+  private volatile Handler handler;
+  private final CountDownLatch clientClosed = new CountDownLatch(1);
+  private final CountDownLatch gate = new CountDownLatch(1);
+  private final List<String> arrivals = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/api/generate", exchange -> {
+      try {
+        handler.handle(exchange);
+      } finally {
+        exchange.close();
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    gate.countDown();
+    server.stop(0);
+  }
+
+  @Test
+  void streamsTokensUntilDone() throws Exception {
+    handler = exchange -> stream(exchange, List.of(chunk("A"), chunk("B"), chunk("C"), done()));
+    List<String> tokens = new CopyOnWriteArrayList<>();
+
+    client(1, 32).generateStreamAsync(PROMPT, null, OllamaPriority.SESSION, tokens::add).get(5, TimeUnit.SECONDS);
+
+    assertThat(tokens).containsExactly("A", "B", "C");
+  }
+
+  @Test
+  void stopsReadingWhenConsumerDeclinesMoreTokens() throws Exception {
+    handler = exchange -> streamForever(exchange);
+    List<String> tokens = new CopyOnWriteArrayList<>();
+    OllamaClient client = client(1, 32);
+
+    client.generateStreamAsync(PROMPT, null, OllamaPriority.SESSION, token -> {
+      tokens.add(token);
+      return tokens.size() < 3;
+    }).get(5, TimeUnit.SECONDS);
+
+    assertThat(tokens).hasSize(3);
+    assertThat(clientClosed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(client.hasInteractiveWork()).isFalse();
+  }
+
+  @Test
+  void cancellingTheFutureClosesTheConnectionAndReleasesThePermit() throws Exception {
+    handler = exchange -> streamForever(exchange);
+    CountDownLatch firstToken = new CountDownLatch(1);
+    OllamaClient client = client(1, 32);
+
+    var stream = client.generateStreamAsync(PROMPT, null, OllamaPriority.SESSION, token -> {
+      firstToken.countDown();
+      return true;
+    });
+    assertThat(firstToken.await(5, TimeUnit.SECONDS)).isTrue();
+    stream.cancel(true);
+
+    assertThat(clientClosed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(client.hasInteractiveWork()).isFalse();
+  }
+
+  @Test
+  void reportsHttpErrors() {
+    handler = exchange -> exchange.sendResponseHeaders(500, -1);
+
+    assertThatThrownBy(() -> client(1, 32)
+        .generateStreamAsync(PROMPT, null, OllamaPriority.SESSION, token -> true)
+        .get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .cause()
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("500");
+  }
+
+  @Test
+  void reportsErrorChunks() {
+    handler = exchange -> stream(exchange, List.of(chunk("A"), "{\"error\":\"model not found\"}"));
+
+    assertThatThrownBy(() -> client(1, 32)
+        .generateStreamAsync(PROMPT, null, OllamaPriority.SESSION, token -> true)
+        .get(5, TimeUnit.SECONDS))
+        .cause()
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("model not found");
+  }
+
+  @Test
+  void queuedCallsRunInPriorityOrder() throws Exception {
+    handler = this::gated;
+    OllamaClient client = client(1, 32);
+    CompletableFuture<Void> first = client.generateStreamAsync(prompt("first"), null, OllamaPriority.SESSION, token -> true);
+    CompletableFuture<Void> refill = client.generateStreamAsync(prompt("refill"), null, OllamaPriority.REFILL, token -> true);
+    CompletableFuture<Void> generate = client.generateStreamAsync(prompt("generate"), null, OllamaPriority.GENERATE, token -> true);
+    CompletableFuture<Void> session = client.generateStreamAsync(prompt("session"), null, OllamaPriority.SESSION, token -> true);
+
+    gate.countDown();
+    CompletableFuture.allOf(first, refill, generate, session).get(5, TimeUnit.SECONDS);
+
+    assertThat(arrivals).containsExactly("first", "session", "generate", "refill");
+  }
+
+  @Test
+  void refillRunsOneAtATimeWithoutBlockingInteractiveCalls() throws Exception {
+    handler = this::gated;
+    OllamaClient client = client(2, 32);
+    client.generateStreamAsync(prompt("refill-1"), null, OllamaPriority.REFILL, token -> true);
+    CompletableFuture<Void> queuedRefill =
+        client.generateStreamAsync(prompt("refill-2"), null, OllamaPriority.REFILL, token -> true);
+
+    client.generateStreamAsync(prompt("session"), null, OllamaPriority.SESSION, token -> true);
+
+    awaitArrivals(2);
+    assertThat(arrivals).containsExactlyInAnyOrder("refill-1", "session");
+    assertThat(queuedRefill).isNotDone();
+    gate.countDown();
+    queuedRefill.get(5, TimeUnit.SECONDS);
+    assertThat(arrivals).last().isEqualTo("refill-2");
+  }
+
+  @Test
+  void rejectsWithRetryAfterWhenTheQueueIsFull() {
+    handler = this::gated;
+    OllamaClient client = client(1, 1);
+    client.generateStreamAsync(prompt("running"), null, OllamaPriority.SESSION, token -> true);
+    client.generateStreamAsync(prompt("queued"), null, OllamaPriority.SESSION, token -> true);
+
+    CompletableFuture<Void> rejected =
+        client.generateStreamAsync(prompt("rejected"), null, OllamaPriority.SESSION, token -> true);
+
+    assertThat(rejected).isCompletedExceptionally();
+    assertThat(catchThrowable(rejected::join)).cause().isInstanceOfSatisfying(OllamaBusyException.class, ex -> {
+      assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+      assertThat(ex.getHeaders().getFirst("Retry-After")).isEqualTo("40");
+    });
+  }
+
+  @Test
+  void queuedCallGivesUpAfterTheQueueTimeout() throws Exception {
+    handler = this::gated;
+    OllamaClient client = client(1, 32, 200);
+    CompletableFuture<Void> running = client.generateStreamAsync(prompt("running"), null, OllamaPriority.SESSION, token -> true);
+
+    CompletableFuture<Void> queued = client.generateStreamAsync(prompt("queued"), null, OllamaPriority.SESSION, token -> true);
+
+    assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+        .cause()
+        .isInstanceOfSatisfying(OllamaBusyException.class,
+            ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+    gate.countDown();
+    running.get(5, TimeUnit.SECONDS);
+    assertThat(arrivals).containsExactly("running");
+    assertThat(client.hasInteractiveWork()).isFalse();
+  }
+
+  private OllamaClient client(int maxConcurrency, int queueCapacity) {
+    return client(maxConcurrency, queueCapacity, 5000);
+  }
+
+  private OllamaClient client(int maxConcurrency, int queueCapacity, long queueTimeoutMs) {
+    String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    return new OllamaClient(new RestTemplateBuilder(), WebClient.builder(), baseUrl, "test-model", "30m",
+        maxConcurrency, queueCapacity, queueTimeoutMs);
+  }
+
+  private void gated(HttpExchange exchange) throws IOException {
+    Map<?, ?> body = new ObjectMapper().readValue(exchange.getRequestBody(), Map.class);
+    arrivals.add((String) body.get("prompt"));
+    try {
+      gate.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    stream(exchange, List.of(chunk("A"), done()));
+  }
+
+  private void awaitArrivals(int count) throws InterruptedException {
+    for (int i = 0; i < 500 && arrivals.size() < count; i++) {
+      Thread.sleep(10);
+    }
+  }
+
+  private static OllamaPrompt prompt(String text) {
+    return new OllamaPrompt("system", text);
+  }
+
+  private void streamForever(HttpExchange exchange) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+    exchange.sendResponseHeaders(200, 0);
+    OutputStream body = exchange.getResponseBody();
+    try {
+      for (int i = 0; i < 500; i++) {
+        body.write((chunk("t" + i) + "\n").getBytes(StandardCharsets.UTF_8));
+        body.flush();
+        Thread.sleep(10);
+      }
+    } catch (IOException ex) {
+      clientClosed.countDown();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void stream(HttpExchange exchange, List<String> lines) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+    exchange.sendResponseHeaders(200, 0);
+    OutputStream body = exchange.getResponseBody();
+    for (String line : lines) {
+      body.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+      body.flush();
+    }
+  }
+
+  private static String chunk(String token) {
+    return "{\"response\":\"" + token + "\",\"done\":false}";
+  }
+
+  private static String done() {
+    return "{\"response\":\"\",\"done\":true,\"prompt_eval_count\":10,\"prompt_eval_duration\":1000,"
+        + "\"eval_count\":3,\"eval_duration\":3000}";
+  }
+
+  @FunctionalInterface
+  private interface Handler {
+    void handle(HttpExchange exchange) throws IOException;
+  }
+}
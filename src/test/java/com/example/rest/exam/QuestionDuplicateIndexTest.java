@@ -0,0 +1,94 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+class QuestionDuplicateIndexTest {
+  private static final String QUESTION =
+      "다음 중 데이터베이스 인덱스를 사용했을 때 조회 성능이 향상되는 이유로 가장 적절한 것은 무엇인가?";
+  private static final String NEAR_DUPLICATE =
+      "다음 중 데이터베이스 인덱스를 사용했을 때 조회 성능이 향상되는 이유로 가장 적절한 것은?";
+  private static final String OTHER_QUESTION = "TCP와 UDP의 차이점을 연결 지향성과 신뢰성 측면에서 설명하시오.";
+
+  @Test
+  void similarityIsOneForTheSameTextAfterCanonicalization() {
+    int[] signature = QuestionDuplicateIndex.signature(QUESTION);
+
+    assertThat(QuestionDuplicateIndex.similarity(signature, QuestionDuplicateIndex.signature("  " + QUESTION + " ")))
+        .isEqualTo(1.0);
+    assertThat(QuestionDuplicateIndex.similarity(signature, QuestionDuplicateIndex.signature(OTHER_QUESTION)))
+        .isLessThan(0.8);
+  }
+
+  @Test
+  void rejectsTheSameUsersNearDuplicate() {
+    QuestionDuplicateIndex index = index(true, 100);
+
+    assertThat(index.reserve("Theory", QUESTION, 1L)).isNotNull();
+
+    assertThat(index.reserve("Theory", NEAR_DUPLICATE, 1L)).isNull();
+    assertThat(index.isDuplicate("theory", NEAR_DUPLICATE, 1L)).isTrue();
+  }
+
+  @Test
+  void keepsUsersAndCategoriesApart() {
+    QuestionDuplicateIndex index = index(true, 100);
+    index.reserve("Theory", QUESTION, 1L);
+
+    assertThat(index.reserve("Theory", QUESTION, 2L)).isNotNull();
+    assertThat(index.reserve("Java", QUESTION, 1L)).isNotNull();
+    assertThat(index.reserve("Theory", OTHER_QUESTION, 1L)).isNotNull();
+  }
+
+  @Test
+  void thresholdDecidesWhatCountsAsDuplicate() {
+    double similarity = QuestionDuplicateIndex.similarity(
+        QuestionDuplicateIndex.signature(QUESTION), QuestionDuplicateIndex.signature(NEAR_DUPLICATE));
+    QuestionDuplicateIndex strict = new QuestionDuplicateIndex(
+        mock(ExamExampleCache.class), mock(ExamAiRepository.class), true, 1.0, 100, 100);
+    strict.reserve("Theory", QUESTION, 1L);
+
+    assertThat(similarity).isGreaterThanOrEqualTo(0.8).isLessThan(1.0);
+    assertThat(strict.isDuplicate("Theory", NEAR_DUPLICATE, 1L)).isFalse();
+    assertThat(strict.isDuplicate("Theory", QUESTION, 1L)).isTrue();
+  }
+
+  @Test
+  void releasedReservationCanBeTakenAgain() {
+    QuestionDuplicateIndex index = index(true, 100);
+    QuestionDuplicateIndex.Reservation reservation = index.reserve("Theory", QUESTION, 1L);
+
+    reservation.release();
+
+    assertThat(index.isDuplicate("Theory", QUESTION, 1L)).isFalse();
+    assertThat(index.reserve("Theory", QUESTION, 1L)).isNotNull();
+  }
+
+  @Test
+  void evictsTheOldestQuestionsPastTheCategoryCap() {
+    QuestionDuplicateIndex index = index(true, 2);
+    index.reserve("Theory", QUESTION, 1L);
+    index.reserve("Theory", OTHER_QUESTION, 1L);
+
+    index.reserve("Theory", "프로세스와 스레드의 차이를 메모리 공유 관점에서 설명하시오.", 1L);
+
+    assertThat(index.isDuplicate("Theory", QUESTION, 1L)).isFalse();
+    assertThat(index.isDuplicate("Theory", OTHER_QUESTION, 1L)).isTrue();
+  }
+
+  @Test
+  void disabledIndexAcceptsEverything() {
+    QuestionDuplicateIndex index = index(false, 100);
+
+    assertThat(index.reserve("Theory", QUESTION, 1L)).isSameAs(QuestionDuplicateIndex.Reservation.NONE);
+    assertThat(index.reserve("Theory", QUESTION, 1L)).isSameAs(QuestionDuplicateIndex.Reservation.NONE);
+    assertThat(index.isDuplicate("Theory", QUESTION, 1L)).isFalse();
+  }
+
+  private static QuestionDuplicateIndex index(boolean enabled, int maxPerCategory) {
+    return new QuestionDuplicateIndex(
+        mock(ExamExampleCache.class), mock(ExamAiRepository.class), enabled, 0.8, 100, maxPerCategory);
+  }
+}
@@ -0,0 +1,85 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.rest.exam.dto.GeneratedExamItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StreamingItemParserTest {
+  private final List<GeneratedExamItem> items = new ArrayList<>();
+
+  @Test
+  void emitsEachItemAsSoonAsItCloses() {
+    StreamingItemParser parser = parser(false);
+
+    parser.feed("[" + item("q1") + ",");
+    assertThat(items).extracting(GeneratedExamItem::question_text).containsExactly("q1");
+
+    parser.feed(item("q2").substring(0, 10));
+    assertThat(items).hasSize(1);
+
+    parser.feed(item("q2").substring(10) + "]");
+    assertThat(items).extracting(GeneratedExamItem::question_text).containsExactly("q1", "q2");
+  }
+
+  @Test
+  void handlesOneCharacterAtATime() {
+    StreamingItemParser parser = parser(false);
+    String text = "[" + item("q1") + "," + item("q2") + "]";
+
+    for (int i = 0; i < text.length(); i++) {
+      parser.feed(text.substring(i, i + 1));
+    }
+
+    assertThat(items).extracting(GeneratedExamItem::question_text).containsExactly("q1", "q2");
+  }
+
+  @Test
+  void ignoresBracesAndQuotesInsideStrings() {
+    parser(false).feed("[" + item("int[] a = {1}; printf(\\\"}\\\");") + "]");
+
+    assertThat(items).extracting(GeneratedExamItem::question_text).containsExactly("int[] a = {1}; printf(\"}\");");
+  }
+
+  @Test
+  void skipsLeadingProseAndWrapperObject() {
+    parser(false).feed("결과는 다음과 같습니다 {예시}: \"따옴표\"\n{\"items\":[" + item("q1") + "]}");
+
+    assertThat(items).extracting(GeneratedExamItem::question_text).containsExactly("q1");
+  }
+
+  @Test
+  void truncatedItemIsNeverEmitted() {
+    parser(false).feed("[" + item("q1") + ",{\"category\":\"Theory\",\"question_text\":\"q2");
+
+    assertThat(items).extracting(GeneratedExamItem::question_text).containsExactly("q1");
+  }
+
+  @Test
+  void strictParserFailsOnMalformedItem() {
+    StreamingItemParser parser = parser(false);
+
+    assertThatThrownBy(() -> parser.feed("[{\"category\": oops}]"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageStartingWith("JSON 파싱 실패");
+  }
+
+  @Test
+  void lenientParserSkipsMalformedItem() {
+    parser(true).feed("[" + item("q1") + ",{\"category\": oops}," + item("q3") + "]");
+
+    assertThat(items).extracting(GeneratedExamItem::question_text).containsExactly("q1", "q3");
+  }
+
+  private StreamingItemParser parser(boolean lenient) {
+    return new StreamingItemParser(new ObjectMapper(), items::add, lenient);
+  }
+
+  private static String item(String question) {
+    return "{\"category\":\"Theory\",\"question_text\":\"" + question + "\",\"answer_text\":\"a\",\"explanation\":\"e\"}";
+  }
+}
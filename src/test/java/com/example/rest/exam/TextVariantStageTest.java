@@ -0,0 +1,49 @@
+package com.example.rest.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TextVariantStageTest {
+  private final TextVariantStage stage = new TextVariantStage(0.5);
+
+  @Test
+  void acceptsCanonicalMatch() {
+    assertThat(stage.evaluate(gradingCase("TCP/IP", null, " tcp / ip."))).isEqualTo(GradingVerdict.CORRECT);
+  }
+
+  @Test
+  void acceptsAnswerWithOrWithoutParenthetical() {
+    assertThat(stage.evaluate(gradingCase("인덱스(색인) 접근", null, "인덱스 접근"))).isEqualTo(GradingVerdict.CORRECT);
+    assertThat(stage.evaluate(gradingCase("인덱스(색인) 접근", null, "색인 접근"))).isEqualTo(GradingVerdict.CORRECT);
+  }
+
+  @Test
+  void acceptsAlias() {
+    assertThat(stage.evaluate(gradingCase("B-Tree", "비트리|B트리", "비 트리"))).isEqualTo(GradingVerdict.CORRECT);
+  }
+
+  @Test
+  void sendsCloseAnswersToTheJudge() {
+    assertThat(stage.evaluate(gradingCase("데이터베이스 인덱스", null, "데이터베이스 인덱")))
+        .isEqualTo(GradingVerdict.UNDECIDED);
+  }
+
+  @Test
+  void ambiguousSimilarityIsTheCutoff() {
+    GradingCase close = gradingCase("데이터베이스 인덱스", null, "데이터베이스 인덱");
+
+    assertThat(new TextVariantStage(14.0 / 15).evaluate(close)).isEqualTo(GradingVerdict.UNDECIDED);
+    assertThat(new TextVariantStage(0.95).evaluate(close)).isEqualTo(GradingVerdict.WRONG);
+  }
+
+  @Test
+  void rejectsUnrelatedOrEmptyAnswers() {
+    assertThat(stage.evaluate(gradingCase("데이터베이스 인덱스", null, "네트워크"))).isEqualTo(GradingVerdict.WRONG);
+    assertThat(stage.evaluate(gradingCase("데이터베이스 인덱스", null, " ?! "))).isEqualTo(GradingVerdict.WRONG);
+  }
+
+  private static GradingCase gradingCase(String expected, String aliases, String answer) {
+    return new GradingCase(1L, "Theory", expected, aliases, answer);
+  }
+}